@@ -21,14 +21,15 @@ public class AppLaunchController {
      * 앱 실행 시간 기록
      * 사용자의 앱 실행 시간을 타임스탬프로 기록
      * 사용 패턴 분석 및 리마인더 발송 시간 최적화에 활용
+     * 기록은 버퍼에 쌓였다가 백그라운드에서 저장되므로 바로 응답함
      *
      * @param userId 사용자 ID
-     * @return 성공 응답 (201 Created)
+     * @return 접수 응답 (202 Accepted)
      */
     @PostMapping("/users/{userId}/app-launches")
     public ResponseEntity<Void> recordAppLaunch(@PathVariable Long userId) {
         appLaunchService.recordAppLaunch(userId);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
 
     /**
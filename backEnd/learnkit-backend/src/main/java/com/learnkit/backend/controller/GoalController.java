@@ -53,6 +53,18 @@ public class GoalController {
         return ResponseEntity.ok(activeGoals);
     }
 
+    /**
+     * 특정 사용자의 모든 목표 달성 예측
+     *
+     * @param userId 사용자 ID
+     * @return 목표별 예측 정보
+     */
+    @GetMapping("/users/{userId}/goals/forecast")
+    public ResponseEntity<List<GoalDto.Forecast>> getGoalForecastsByUser(@PathVariable Long userId) {
+        List<GoalDto.Forecast> forecasts = goalService.forecastGoalsByUserId(userId);
+        return ResponseEntity.ok(forecasts);
+    }
+
     /**
      * 특정 목표의 상세 정보를 조회함
      *
@@ -65,6 +77,18 @@ public class GoalController {
         return ResponseEntity.ok(goal);
     }
 
+    /**
+     * 특정 목표의 달성 예측 (최근 학습 속도로 마감 안에 끝나는지)
+     *
+     * @param goalId 목표 ID
+     * @return 예측 정보
+     */
+    @GetMapping("/goals/{goalId}/forecast")
+    public ResponseEntity<GoalDto.Forecast> getGoalForecast(@PathVariable Integer goalId) {
+        GoalDto.Forecast forecast = goalService.forecastGoal(goalId);
+        return ResponseEntity.ok(forecast);
+    }
+
     /**
      * 목표 정보를 수정
      *
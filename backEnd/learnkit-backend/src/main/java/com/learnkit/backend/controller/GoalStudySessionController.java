@@ -108,4 +108,30 @@ public class GoalStudySessionController {
         GoalStudySessionDto.Response response = goalStudySessionService.updatePomoCount(sessionId, pomoCount);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 사용자의 학습 세션 목록 페이지 조회 (size 파라미터가 있을 때, 최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping(value = "/users/{userId}/goal-study-sessions", params = "size")
+    public ResponseEntity<GoalStudySessionDto.PageResponse> getSessionPageByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        GoalStudySessionDto.PageResponse page = goalStudySessionService.findSessionPageByUserId(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 특정 목표에 연결된 학습 세션 목록 페이지 조회 (size 파라미터가 있을 때, 최신순)
+     */
+    @GetMapping(value = "/goal-study-sessions", params = "size")
+    public ResponseEntity<GoalStudySessionDto.PageResponse> getSessionPageByGoal(
+            @RequestParam Integer goalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        GoalStudySessionDto.PageResponse page = goalStudySessionService.findSessionPageByGoalId(goalId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+}
@@ -0,0 +1,42 @@
+package com.learnkit.backend.controller;
+
+import com.learnkit.backend.dto.HomeDto;
+import com.learnkit.backend.service.HomeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면 컨트롤러
+ * 앱 시작 시 홈 화면에 필요한 데이터를 한 번의 요청으로 제공
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class HomeController {
+
+    private final HomeService homeService;
+
+    /**
+     * 홈 화면 데이터 조회
+     *
+     * @param from 일정 조회 시작 시각 (생략 시 지난달 1일)
+     * @param to 일정 조회 종료 시각, 미포함 (생략 시 다다음 달 1일)
+     */
+    @GetMapping("/users/{userId}/home")
+    public ResponseEntity<HomeDto.Response> getHome(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        LocalDateTime scheduleFrom = from != null ? from : thisMonth.minusMonths(1).atStartOfDay();
+        LocalDateTime scheduleTo = to != null ? to : thisMonth.plusMonths(2).atStartOfDay();
+
+        HomeDto.Response home = homeService.getHome(userId, scheduleFrom, scheduleTo);
+        return ResponseEntity.ok(home);
+    }
+}
@@ -0,0 +1,57 @@
+package com.learnkit.backend.controller;
+
+import com.learnkit.backend.dto.PomodoroTimerDto;
+import com.learnkit.backend.service.PomodoroTimerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class PomodoroTimerController {
+
+    private final PomodoroTimerService pomodoroTimerService;
+
+    /**
+     * 타이머 시작/재개
+     */
+    @PatchMapping("/goal-study-sessions/{sessionId}/timer/start")
+    public ResponseEntity<PomodoroTimerDto.State> start(@PathVariable Integer sessionId) {
+        return ResponseEntity.ok(pomodoroTimerService.start(sessionId));
+    }
+
+    /**
+     * 타이머 일시정지
+     */
+    @PatchMapping("/goal-study-sessions/{sessionId}/timer/pause")
+    public ResponseEntity<PomodoroTimerDto.State> pause(@PathVariable Integer sessionId) {
+        return ResponseEntity.ok(pomodoroTimerService.pause(sessionId));
+    }
+
+    /**
+     * 현재 단계 초기화
+     */
+    @PatchMapping("/goal-study-sessions/{sessionId}/timer/reset")
+    public ResponseEntity<PomodoroTimerDto.State> reset(@PathVariable Integer sessionId) {
+        return ResponseEntity.ok(pomodoroTimerService.reset(sessionId));
+    }
+
+    /**
+     * 타이머 상태 조회
+     */
+    @GetMapping("/goal-study-sessions/{sessionId}/timer")
+    public ResponseEntity<PomodoroTimerDto.State> getState(@PathVariable Integer sessionId) {
+        return ResponseEntity.ok(pomodoroTimerService.getState(sessionId));
+    }
+
+    /**
+     * 타이머 이벤트 구독 (Server-Sent Events, 이벤트 이름: timer)
+     */
+    @GetMapping(value = "/goal-study-sessions/{sessionId}/timer/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Integer sessionId) {
+        return pomodoroTimerService.subscribe(sessionId);
+    }
+}
@@ -4,9 +4,13 @@ package com.learnkit.backend.controller;
 import com.learnkit.backend.dto.ScheduleDto;
 import com.learnkit.backend.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -33,6 +37,38 @@ public class ScheduleController {
         return ResponseEntity.ok(responseDtos);
     }
 
+    // 기간 [from, to)과 겹치는 일정 조회 (예: ?from=2025-03-01T00:00:00&to=2025-04-01T00:00:00)
+    @GetMapping(value = "/users/{userId}/schedules", params = {"from", "to"})
+    public ResponseEntity<List<ScheduleDto.Response>> getSchedulesInRange(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<ScheduleDto.Response> responseDtos = scheduleService.findSchedulesInRange(userId, from, to);
+        return ResponseEntity.ok(responseDtos);
+    }
+
+    // 달력 보기 단위로 일정 조회 (예: ?view=month&date=2025-03-15, date 생략 시 오늘)
+    @GetMapping(value = "/users/{userId}/schedules", params = "view")
+    public ResponseEntity<List<ScheduleDto.Response>> getSchedulesForView(
+            @PathVariable Long userId,
+            @RequestParam String view,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        List<ScheduleDto.Response> responseDtos = scheduleService.findSchedulesForView(userId, view, targetDate);
+        return ResponseEntity.ok(responseDtos);
+    }
+
+    // 기간 [from, to) 안의 빈 시간 조회 (예: ?from=2025-03-10T09:00:00&to=2025-03-10T18:00:00&minMinutes=60)
+    @GetMapping("/users/{userId}/schedules/free-slots")
+    public ResponseEntity<List<ScheduleDto.FreeSlot>> getFreeSlots(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "30") int minMinutes) {
+        List<ScheduleDto.FreeSlot> freeSlots = scheduleService.findFreeSlots(userId, from, to, minMinutes);
+        return ResponseEntity.ok(freeSlots);
+    }
+
     // 일정 상세 조회
     @GetMapping("/schedules/{scheduleId}")
     public ResponseEntity<ScheduleDto.Response> getScheduleById(@PathVariable Long scheduleId) {
@@ -0,0 +1,32 @@
+package com.learnkit.backend.controller;
+
+import com.learnkit.backend.dto.StudyCalendarDto;
+import com.learnkit.backend.service.StudyCalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 학습 달력 컨트롤러
+ * 연간 학습 히트맵과 연속 학습 일수 제공
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class StudyCalendarController {
+
+    private final StudyCalendarService studyCalendarService;
+
+    /**
+     * 연간 학습 달력 조회
+     *
+     * @param year 조회 연도 (생략 시 올해)
+     */
+    @GetMapping("/users/{userId}/study-calendar")
+    public ResponseEntity<StudyCalendarDto.Response> getCalendar(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Integer year) {
+        StudyCalendarDto.Response calendar = studyCalendarService.getCalendar(userId, year);
+        return ResponseEntity.ok(calendar);
+    }
+}
@@ -0,0 +1,38 @@
+package com.learnkit.backend.controller;
+
+import com.learnkit.backend.dto.StudyPlanDto;
+import com.learnkit.backend.service.StudyPlanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 계획 컨트롤러
+ * 목표의 남은 분량을 일정 사이 빈 시간에 배치한 계획 제공
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class StudyPlanController {
+
+    private final StudyPlanService studyPlanService;
+
+    /**
+     * 학습 계획 조회
+     *
+     * @param from 계획 시작 날짜 (생략 시 오늘)
+     * @param days 계획 일수 (기본 7일, 최대 31일)
+     */
+    @GetMapping("/users/{userId}/study-plan")
+    public ResponseEntity<StudyPlanDto.Response> getStudyPlan(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "7") int days) {
+        LocalDate startDate = from != null ? from : LocalDate.now();
+        StudyPlanDto.Response plan = studyPlanService.plan(userId, startDate, days);
+        return ResponseEntity.ok(plan);
+    }
+}
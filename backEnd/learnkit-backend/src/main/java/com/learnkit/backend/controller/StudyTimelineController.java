@@ -0,0 +1,34 @@
+package com.learnkit.backend.controller;
+
+import com.learnkit.backend.dto.StudyTimelineDto;
+import com.learnkit.backend.service.StudyTimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 학습 타임라인 컨트롤러
+ * 목표 학습 세션과 단어장 학습 세션을 합친 학습 기록을 페이지 단위로 제공
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class StudyTimelineController {
+
+    private final StudyTimelineService studyTimelineService;
+
+    /**
+     * 학습 타임라인 조회 (최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/users/{userId}/study-sessions/timeline")
+    public ResponseEntity<StudyTimelineDto.PageResponse> getTimeline(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        StudyTimelineDto.PageResponse page = studyTimelineService.getTimeline(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+}
@@ -55,4 +55,20 @@ public class UserController {
         UserDto.Response responseDto = userService.updateProfileImage(userId, requestDto);
         return ResponseEntity.ok(responseDto);
     }
+
+    // 푸시 토큰 등록 (등록하면 매일 추천 시각에 학습 알림 발송)
+    @PutMapping("/users/{userId}/push-token")
+    public ResponseEntity<Void> registerPushToken(
+            @PathVariable Long userId,
+            @RequestBody UserDto.PushTokenRequest requestDto) {
+        userService.registerPushToken(userId, requestDto);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 푸시 토큰 해제 (학습 알림 중단)
+    @DeleteMapping("/users/{userId}/push-token")
+    public ResponseEntity<Void> removePushToken(@PathVariable Long userId) {
+        userService.removePushToken(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -3,9 +3,12 @@ package com.learnkit.backend.controller;
 import com.learnkit.backend.dto.WeeklyStatsDto;
 import com.learnkit.backend.service.WeeklyStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * 주간 통계 컨트롤러
  * 여러 엔티티의 데이터를 통합하여 주간 통계 제공
@@ -31,6 +34,28 @@ public class WeeklyStatsController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 주간 학습 추이 조회 (추이 차트용)
+     *
+     * 주별 학습 시간, 난이도 변화량, 목표 달성량
+     * from을 지정하면 from이 속한 주 ~ to가 속한 주(기본 이번 주), 지정하지 않으면 이번 주를 포함한 최근 N주
+     *
+     * @param weeks 조회할 주 수 (from이 없을 때 사용, 기본 12, 최대 104)
+     * @param from 시작 날짜 (선택, 예: 2025-01-06)
+     * @param to 종료 날짜 (선택, from과 함께 사용, 최대 104주 범위)
+     */
+    @GetMapping("/users/{userId}/weekly-stats/history")
+    public ResponseEntity<WeeklyStatsDto.HistoryResponse> getWeeklyHistory(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "12") int weeks,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        WeeklyStatsDto.HistoryResponse history = from != null
+                ? weeklyStatsService.getWeeklyHistory(userId, from, to != null ? to : LocalDate.now())
+                : weeklyStatsService.getWeeklyHistory(userId, weeks);
+        return ResponseEntity.ok(history);
+    }
+
     /**
      * 주간 기준선 생성
      *
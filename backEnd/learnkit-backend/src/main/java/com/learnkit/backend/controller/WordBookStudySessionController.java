@@ -97,4 +97,30 @@ public class WordBookStudySessionController {
         List<WordBookStudySessionDto.Response> sessions = wordBookStudySessionService.findSessionsByWordBookId(wordBookId);
         return ResponseEntity.ok(sessions);
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 사용자의 학습 세션 목록 페이지 조회 (size 파라미터가 있을 때, 최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping(value = "/users/{userId}/wordbook-study-sessions", params = "size")
+    public ResponseEntity<WordBookStudySessionDto.PageResponse> getSessionPageByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        WordBookStudySessionDto.PageResponse page = wordBookStudySessionService.findSessionPageByUserId(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 특정 단어장에 연결된 학습 세션 목록 페이지 조회 (size 파라미터가 있을 때, 최신순)
+     */
+    @GetMapping(value = "/wordbook-study-sessions", params = "size")
+    public ResponseEntity<WordBookStudySessionDto.PageResponse> getSessionPageByWordBook(
+            @RequestParam Long wordBookId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        WordBookStudySessionDto.PageResponse page = wordBookStudySessionService.findSessionPageByWordBookId(wordBookId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+}
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "app_launches")
+@Table(name = "app_launches", indexes = {
+        @Index(name = "idx_app_launches_user_time", columnList = "user_id, launch_time") // 사용자별 기간 조회용
+})
 public class AppLaunch {
 
     @Id
@@ -32,4 +34,10 @@ public class AppLaunch {
         this.user = user;
         this.launchTime = LocalDateTime.now(); // 앱 실행 시 생성하여 앱 시작 시간을 저장.
     }
+
+    // 실행 시간을 지정하는 생성자 (버퍼에 쌓였다가 나중에 저장되는 경우 실제 실행 시간을 유지)
+    public AppLaunch(User user, LocalDateTime launchTime) {
+        this.user = user;
+        this.launchTime = launchTime;
+    }
 }
\ No newline at end of file
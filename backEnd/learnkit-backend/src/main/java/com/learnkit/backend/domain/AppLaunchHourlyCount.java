@@ -0,0 +1,47 @@
+package com.learnkit.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 시간대별 앱 실행 횟수 집계 엔티티
+ * 보관 기간이 지난 app_launches 원본 기록을 (사용자, 날짜, 시) 단위 횟수로 압축하여 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "app_launch_hourly_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_app_launch_hourly_counts_user_date_hour",
+                columnNames = {"user_id", "launch_date", "launch_hour"})
+}, indexes = {
+        @Index(name = "idx_app_launch_hourly_counts_date", columnList = "launch_date") // 기간이 지난 집계 정리용
+})
+public class AppLaunchHourlyCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "launch_date", nullable = false)
+    private LocalDate launchDate;
+
+    @Column(name = "launch_hour", nullable = false)
+    private int launchHour; // 0~23
+
+    @Column(name = "launch_count", nullable = false)
+    private int launchCount = 0;
+
+    // 생성자
+    public AppLaunchHourlyCount(User user, LocalDate launchDate, int launchHour) {
+        this.user = user;
+        this.launchDate = launchDate;
+        this.launchHour = launchHour;
+    }
+}
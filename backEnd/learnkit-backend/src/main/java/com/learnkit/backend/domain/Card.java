@@ -85,22 +85,6 @@ public class Card extends BaseTimeEntity {
         }
     }
 
-    /**
-     * 난이도를 선택하여 카드를 복습함.
-     * 우선순위 점수를 업데이트하고, 복습 시간과 조회 수를 기록함.
-     *
-     * @param difficulty 사용자가 선택한 난이도
-     * @param interval 해당 난이도의 interval 점수
-     */
-    public void reviewWithDifficulty(Difficulty difficulty, long interval) {
-        this.difficulty = difficulty;
-        this.lastReviewedAt = LocalDateTime.now();
-        this.viewCount++;
-
-        // 우선순위 점수 누적 (상대 점수 방식)
-        this.reviewPriority += interval;
-    }
-
     /**
      * 학습 세션 시작 시 카드의 우선순위를 리셋함.
      *
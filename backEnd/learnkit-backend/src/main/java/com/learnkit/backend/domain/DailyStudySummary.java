@@ -0,0 +1,61 @@
+package com.learnkit.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 학습 요약 (집계 테이블)
+ * 세션 종료 시점에 시작일 기준으로 누적되며, 주간/장기 추이 통계를 세션 원본 없이 계산하는 데 사용
+ */
+@Getter
+@Entity
+@Table(name = "daily_study_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_study_summaries_user_date", columnNames = {"user_id", "study_date"})
+})
+@NoArgsConstructor
+public class DailyStudySummary extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "study_date", nullable = false)
+    private LocalDate studyDate;
+
+    // 목표(포모도로) 학습
+    @Column(name = "goal_session_count", nullable = false)
+    private int goalSessionCount = 0;
+
+    @Column(name = "pomodoro_minutes", nullable = false)
+    private int pomodoroMinutes = 0;
+
+    @Column(name = "pomo_count", nullable = false)
+    private int pomoCount = 0;
+
+    @Column(name = "achieved_amount", nullable = false)
+    private int achievedAmount = 0;
+
+    // 단어장 학습
+    @Column(name = "wordbook_session_count", nullable = false)
+    private int wordBookSessionCount = 0;
+
+    @Column(name = "wordbook_minutes", nullable = false)
+    private int wordBookMinutes = 0;
+
+    // 난이도 변화량 (세션 종료 - 세션 시작)
+    @Column(name = "hard_change", nullable = false)
+    private int hardChange = 0;
+
+    @Column(name = "normal_change", nullable = false)
+    private int normalChange = 0;
+
+    @Column(name = "easy_change", nullable = false)
+    private int easyChange = 0;
+}
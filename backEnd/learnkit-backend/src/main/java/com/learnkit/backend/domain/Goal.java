@@ -55,17 +55,6 @@ public class Goal extends BaseTimeEntity {
         this.user = user;
     }
 
-    // 진행도 업데이트
-    public void addProgress(int amount) {
-        this.currentProgress += amount; // 학습 종료 후 사용자가 입력
-
-        // 이번 학습으로 목표치 달성 시
-        if (this.currentProgress >= this.totalTargetAmount && !this.isCompleted) {
-            this.isCompleted = true;
-            this.completedAt = LocalDateTime.now();
-        }
-    }
-
     // 학습 목표 수정
     public void update(String title, LocalDate startDate, LocalDate endDate, Integer totalTargetAmount, String targetUnit){
 
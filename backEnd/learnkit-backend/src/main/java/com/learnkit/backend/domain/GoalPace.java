@@ -0,0 +1,40 @@
+package com.learnkit.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목표별 학습 속도 (지수 가중 누적값)
+ * 세션 종료 때마다 한 번의 UPSERT로 갱신하여, 예측 시 세션 기록을 다시 읽지 않음
+ * - decayedAmount: 달성량을 마지막 학습 시점 기준으로 시간 감쇠(e^(-경과/시간 상수))시켜 더한 값
+ * - minutesPerUnit: 세션의 단위당 학습 시간의 지수 가중 이동 평균
+ * 행은 GoalPaceRepository.recordSession(네이티브 UPSERT)으로만 생성/갱신됨
+ */
+@Getter
+@Entity
+@Table(name = "goal_paces")
+@NoArgsConstructor
+public class GoalPace extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "goal_id")
+    private Integer goalId;
+
+    @Column(name = "decayed_amount", nullable = false)
+    private double decayedAmount;
+
+    @Column(name = "minutes_per_unit")
+    private Double minutesPerUnit; // 학습 시간이 기록된 세션이 없으면 NULL
+
+    @Column(name = "session_count", nullable = false)
+    private int sessionCount;
+
+    @Column(name = "first_studied_at", nullable = false)
+    private LocalDateTime firstStudiedAt;
+
+    @Column(name = "last_studied_at", nullable = false)
+    private LocalDateTime lastStudiedAt;
+}
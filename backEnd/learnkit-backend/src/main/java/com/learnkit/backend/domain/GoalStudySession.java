@@ -12,10 +12,22 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Entity
-@Table(name = "goal_study_sessions")
+@Table(name = "goal_study_sessions", uniqueConstraints = {
+        // 사용자당 진행 중인 세션은 하나만 허용
+        @UniqueConstraint(name = GoalStudySession.ACTIVE_USER_CONSTRAINT, columnNames = "active_user_id")
+}, indexes = {
+        @Index(name = "idx_goal_study_sessions_user_started", columnList = "user_id, started_at"),
+        @Index(name = "idx_goal_study_sessions_user_ended", columnList = "user_id, ended_at"),
+        @Index(name = "idx_goal_study_sessions_goal_started", columnList = "goal_id, started_at")
+})
 @NoArgsConstructor
 public class GoalStudySession extends BaseTimeEntity {
 
+    // 진행 중 세션 유니크 제약 이름 (중복 시작 예외 판별, 서버 시작 시 제약 확인용)
+    public static final String ACTIVE_USER_CONSTRAINT = "uk_goal_study_sessions_active_user";
+
+    public static final int POMODORO_MINUTES = 25; // 포모도로 1회 학습 시간 (분)
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -33,6 +45,11 @@ public class GoalStudySession extends BaseTimeEntity {
 
     private LocalDateTime endedAt; // 종료 시간 (NULL = 진행 중)
 
+    // 진행 중(ended_at IS NULL)이면 user_id, 종료되면 NULL인 생성 컬럼 (유니크 제약용, DB가 계산)
+    @Column(name = "active_user_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (CASE WHEN ended_at IS NULL THEN user_id END) STORED")
+    private Long activeUserId;
+
     @Column(nullable = false)
     private int achievedAmount = 0; // 이번 세션 달성량
 
@@ -61,22 +78,10 @@ public class GoalStudySession extends BaseTimeEntity {
         this.endedAt = LocalDateTime.now();
         this.achievedAmount = achievedAmount;
         this.pomoCount = pomoCount;
-        this.durationMinutes = pomoCount * 25; // 시간 계산
+        this.durationMinutes = pomoCount * POMODORO_MINUTES; // 시간 계산
         this.note = note;
     }
 
-    /**
-     * 포모도로 카운트 실시간 업데이트 (진행 중인 세션에만 사용)
-     * 앱 강제 종료 시에도 진행 상황을 보존하기 위해 사용
-     */
-    public void updatePomoCount(int pomoCount) {
-        if (!isInProgress()) {
-            throw new IllegalStateException("종료된 세션은 업데이트할 수 없습니다.");
-        }
-        this.pomoCount = pomoCount;
-        this.durationMinutes = pomoCount * 25; // 시간 계산
-    }
-
     /**
      * 진행 중인 세션 여부
      */
@@ -0,0 +1,38 @@
+package com.learnkit.backend.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜 목록 <-> 쉼표로 구분한 ISO 날짜 문자열 변환 (예: "2025-03-01,2025-03-08")
+ * 반복 일정의 제외 날짜처럼 항상 통째로 읽고 쓰는 짧은 목록을 별도 테이블 없이 한 컬럼에 저장하기 위함
+ */
+@Converter
+public class LocalDateListConverter implements AttributeConverter<List<LocalDate>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return null;
+        }
+        return dates.stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public List<LocalDate> convertToEntityAttribute(String column) {
+        if (column == null || column.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(column.split(","))
+                .map(String::trim)
+                .map(LocalDate::parse)
+                .toList();
+    }
+}
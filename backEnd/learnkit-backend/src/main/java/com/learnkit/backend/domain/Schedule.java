@@ -4,15 +4,39 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 
 @Entity
 @Getter
 @NoArgsConstructor // 기본 생성자 생성.
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        // 달력 기간 조회용 (사용자별로 짧은/긴 일정을 나눠 각각 시작 시간 범위로 조회)
+        @Index(name = "idx_schedules_user_span_start", columnList = "user_id, long_span, start_time, series_end_time")
+})
 public class Schedule extends BaseTimeEntity{
 
+    // 종료일 없이 반복되는 일정의 series_end_time (DATETIME 최댓값 근처)
+    public static final LocalDateTime OPEN_ENDED = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // 시작 ~ 마지막 회차 종료가 이 일수 이하인 일정은 짧은 일정 (long_span 생성 컬럼 정의와 같은 값이어야 함)
+    public static final int SHORT_SPAN_DAYS = 7;
+
+    // 반복 주기
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본 키 값을 DB가 컬럼 기능에 맞게 자동 생성하도록 설정한다.
     private Long id; // 학습 일정 고유 식별자 (PK)
@@ -39,6 +63,29 @@ public class Schedule extends BaseTimeEntity{
 
     private boolean isCompleted;
 
+    // 반복 규칙 (recurrenceFrequency가 null이면 단일 일정)
+    // 반복 일정도 규칙 한 행만 저장하고, 각 회차는 조회할 때 기간 안에서만 계산한다.
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Frequency recurrenceFrequency;
+
+    private Integer recurrenceInterval; // 몇 일/주/달마다 반복하는지 (1 이상)
+
+    private LocalDateTime recurrenceUntil; // 이 시각까지 시작하는 회차만 (null = 종료일 없음)
+
+    @Convert(converter = LocalDateListConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private List<LocalDate> recurrenceExceptions = List.of(); // 건너뛸 회차의 시작 날짜
+
+    // 마지막 회차의 종료 시간 (단일 일정은 endTime, 종료일 없는 반복은 OPEN_ENDED), 기간 조회용
+    private LocalDateTime seriesEndTime;
+
+    // 시작 ~ 마지막 회차 종료가 SHORT_SPAN_DAYS보다 긴 일정이면 true인 생성 컬럼 (기간 조회용, DB가 계산)
+    // 짧은 일정은 기간 시작 - SHORT_SPAN_DAYS 이후에 시작한 것만 겹칠 수 있으므로 시작 시간 하한을 둘 수 있음
+    @Column(name = "long_span", insertable = false, updatable = false,
+            columnDefinition = "BOOLEAN GENERATED ALWAYS AS (series_end_time > start_time + INTERVAL 7 DAY) STORED")
+    private Boolean longSpan;
+
     // DTO에서 Entity로 변환 시 사용할 생성자
     public Schedule(String title,String description, LocalDateTime startTime, LocalDateTime endTime) {
         this.title = title;
@@ -46,6 +93,7 @@ public class Schedule extends BaseTimeEntity{
         this.startTime = startTime;
         this.endTime = endTime;
         this.isCompleted = false;
+        updateSeriesEndTime();
     }
 
     public void setUser(User user) {
@@ -70,6 +118,160 @@ public class Schedule extends BaseTimeEntity{
         if (isCompleted != null) {
             this.isCompleted = isCompleted;
         }
+        updateSeriesEndTime();
+    }
+
+    // 반복 규칙 설정 (기존 규칙과 제외 날짜는 교체)
+    public void updateRecurrence(Frequency frequency, int interval, LocalDateTime until, List<LocalDate> exceptions) {
+        this.recurrenceFrequency = frequency;
+        this.recurrenceInterval = interval;
+        this.recurrenceUntil = until;
+        this.recurrenceExceptions = exceptions != null ? List.copyOf(exceptions) : List.of();
+        updateSeriesEndTime();
+    }
+
+    // 반복 일정의 제외 날짜만 교체
+    public void updateRecurrenceExceptions(List<LocalDate> exceptions) {
+        this.recurrenceExceptions = List.copyOf(exceptions);
+    }
+
+    // 반복 해제 (첫 회차만 남은 단일 일정이 됨)
+    public void clearRecurrence() {
+        this.recurrenceFrequency = null;
+        this.recurrenceInterval = null;
+        this.recurrenceUntil = null;
+        this.recurrenceExceptions = List.of();
+        updateSeriesEndTime();
+    }
+
+    public boolean isRecurring() {
+        return this.recurrenceFrequency != null;
+    }
+
+    private void updateSeriesEndTime() {
+        if (this.recurrenceFrequency == null) {
+            this.seriesEndTime = this.endTime;
+        } else if (this.recurrenceUntil == null) {
+            this.seriesEndTime = OPEN_ENDED;
+        } else {
+            this.seriesEndTime = this.recurrenceUntil.plus(Duration.between(this.startTime, this.endTime));
+        }
+    }
+
+    /**
+     * 기간 [from, to)과 겹치는 회차를 시작 시간순으로 하나씩 계산하는 반복자
+     * 회차를 미리 만들어 두지 않으므로 반복 규칙이 길어도 메모리는 기간 안의 회차만큼만 사용함
+     * 단일 일정은 겹치면 자기 자신 하나만 반환함
+     */
+    public Iterator<Occurrence> occurrences(LocalDateTime from, LocalDateTime to) {
+        return occurrences(startTime, endTime, recurrenceFrequency, recurrenceInterval, recurrenceUntil,
+                recurrenceExceptions, from, to);
+    }
+
+    /**
+     * 엔티티 없이 일정 값만으로 기간 [from, to)의 회차 계산 (일정 캐시 등에서 사용)
+     */
+    public static Iterator<Occurrence> occurrences(LocalDateTime startTime, LocalDateTime endTime,
+                                                   Frequency recurrenceFrequency, Integer recurrenceInterval,
+                                                   LocalDateTime recurrenceUntil, List<LocalDate> recurrenceExceptions,
+                                                   LocalDateTime from, LocalDateTime to) {
+        return new OccurrenceIterator(startTime, endTime, recurrenceFrequency, recurrenceInterval, recurrenceUntil,
+                recurrenceExceptions, from, to);
+    }
+
+    // 일정의 한 회차
+    public record Occurrence(LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    private static final class OccurrenceIterator implements Iterator<Occurrence> {
+
+        private final LocalDateTime startTime;
+        private final Frequency recurrenceFrequency;
+        private final Integer recurrenceInterval;
+        private final LocalDateTime recurrenceUntil;
+        private final Duration duration;
+        private final Set<LocalDate> skippedDates;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private long index; // 다음에 계산할 회차 번호 (0 = 첫 회차)
+        private Occurrence next;
+
+        private OccurrenceIterator(LocalDateTime startTime, LocalDateTime endTime, Frequency recurrenceFrequency,
+                                   Integer recurrenceInterval, LocalDateTime recurrenceUntil,
+                                   List<LocalDate> recurrenceExceptions, LocalDateTime from, LocalDateTime to) {
+            this.startTime = startTime;
+            this.recurrenceFrequency = recurrenceFrequency;
+            this.recurrenceInterval = recurrenceInterval;
+            this.recurrenceUntil = recurrenceUntil;
+            this.duration = Duration.between(startTime, endTime);
+            this.skippedDates = recurrenceExceptions != null ? new HashSet<>(recurrenceExceptions) : Set.of();
+            this.from = from;
+            this.to = to;
+            this.index = firstCandidateIndex();
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Occurrence next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Occurrence current = next;
+            advance();
+            return current;
+        }
+
+        // 기간 시작 직전 회차부터 계산하도록 앞의 회차는 건너뜀 (정확한 시작은 advance에서 맞춤)
+        private long firstCandidateIndex() {
+            LocalDateTime lowerBound = from.minus(duration);
+            if (recurrenceFrequency == null || !lowerBound.isAfter(startTime)) {
+                return 0;
+            }
+            long units = switch (recurrenceFrequency) {
+                case DAILY -> ChronoUnit.DAYS.between(startTime, lowerBound);
+                case WEEKLY -> ChronoUnit.WEEKS.between(startTime, lowerBound);
+                case MONTHLY -> ChronoUnit.MONTHS.between(startTime, lowerBound);
+            };
+            return Math.max(units / recurrenceInterval - 1, 0);
+        }
+
+        // 다음으로 겹치는 회차를 찾음 (기간이나 반복 종료를 넘으면 끝)
+        private void advance() {
+            next = null;
+            while (true) {
+                LocalDateTime start = occurrenceStart(index);
+                if (start == null || !start.isBefore(to)
+                        || (recurrenceUntil != null && start.isAfter(recurrenceUntil))) {
+                    return;
+                }
+                index++;
+
+                LocalDateTime end = start.plus(duration);
+                boolean overlaps = end.isAfter(from) || !start.isBefore(from);
+                if (overlaps && !skippedDates.contains(start.toLocalDate())) {
+                    next = new Occurrence(start, end);
+                    return;
+                }
+            }
+        }
+
+        // n번째 회차 시작 시간 (월 반복은 첫 회차 기준으로 더해서 말일 보정이 누적되지 않음)
+        private LocalDateTime occurrenceStart(long n) {
+            if (recurrenceFrequency == null) {
+                return n == 0 ? startTime : null;
+            }
+            long steps = n * recurrenceInterval;
+            return switch (recurrenceFrequency) {
+                case DAILY -> startTime.plusDays(steps);
+                case WEEKLY -> startTime.plusWeeks(steps);
+                case MONTHLY -> startTime.plusMonths(steps);
+            };
+        }
     }
 }
 
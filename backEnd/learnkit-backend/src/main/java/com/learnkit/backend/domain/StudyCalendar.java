@@ -0,0 +1,72 @@
+package com.learnkit.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 사용자별 연간 학습 달력
+ * 해당 연도의 각 날짜에 학습했는지를 366비트(46바이트) 비트셋으로 저장
+ * 비트 인덱스 = 그 해의 일차 - 1 (1월 1일 = 0)
+ */
+@Getter
+@Entity
+@Table(name = "study_calendars", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_study_calendars_user_year", columnNames = {"user_id", "year"})
+})
+@NoArgsConstructor
+public class StudyCalendar extends BaseTimeEntity {
+
+    public static final int MAX_DAYS = 366;
+    public static final int BYTE_LENGTH = (MAX_DAYS + 7) / 8;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(name = "studied_days", nullable = false, length = BYTE_LENGTH)
+    private byte[] studiedDays = new byte[BYTE_LENGTH];
+
+    public StudyCalendar(User user, int year) {
+        this.user = user;
+        this.year = year;
+    }
+
+    /**
+     * 학습한 날로 표시
+     */
+    public void markStudied(LocalDate date) {
+        BitSet days = toBitSet();
+        days.set(date.getDayOfYear() - 1);
+        this.studiedDays = toBytes(days);
+    }
+
+    /**
+     * 학습한 날 표시 해제 (그 날의 세션이 모두 삭제된 경우)
+     */
+    public void clearStudied(LocalDate date) {
+        BitSet days = toBitSet();
+        days.clear(date.getDayOfYear() - 1);
+        this.studiedDays = toBytes(days);
+    }
+
+    public BitSet toBitSet() {
+        return BitSet.valueOf(studiedDays);
+    }
+
+    // BitSet.toByteArray()는 뒤쪽 0 바이트를 잘라내므로 고정 길이로 맞춤
+    private static byte[] toBytes(BitSet days) {
+        return Arrays.copyOf(days.toByteArray(), BYTE_LENGTH);
+    }
+}
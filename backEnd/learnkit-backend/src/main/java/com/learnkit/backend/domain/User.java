@@ -27,6 +27,11 @@ public class User extends BaseTimeEntity {
     @Lob
     private String profileImageUrl;
 
+    @Column(length = 512)
+    private String pushToken;     // 푸시 알림 토큰 (NULL = 알림 받지 않음)
+
+    private Integer reminderHour; // 학습 알림을 보낼 시 (0~23, 최근 앱 실행 피크 시간대 1시간 전)
+
     // createdAt, updatedAt 필드는 BaseTimeEntity로부터 상속받아 자동 처리됨.
 
     public void updateProfile(String newNickname, String newProfileImageUrl) {
@@ -43,4 +48,10 @@ public class User extends BaseTimeEntity {
     public void changePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
+
+    // 푸시 토큰 등록/해제 (null이면 해제)
+    public void updatePushToken(String pushToken, Integer reminderHour) {
+        this.pushToken = pushToken;
+        this.reminderHour = reminderHour;
+    }
 }
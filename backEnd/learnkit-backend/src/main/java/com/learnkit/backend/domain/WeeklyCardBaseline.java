@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
  */
 @Getter
 @Entity
-@Table(name = "weekly_card_baselines")
+@Table(name = "weekly_card_baselines", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_weekly_card_baselines_user_week",
+                columnNames = {"user_id", "year", "month", "week_number"})
+}, indexes = {
+        @Index(name = "idx_weekly_card_baselines_week", columnList = "year, month, week_number, user_id")
+})
 @NoArgsConstructor
 public class WeeklyCardBaseline extends BaseTimeEntity {
 
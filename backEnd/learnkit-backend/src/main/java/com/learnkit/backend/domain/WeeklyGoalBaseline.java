@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
  */
 @Getter
 @Entity
-@Table(name = "weekly_goal_baselines")
+@Table(name = "weekly_goal_baselines", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_weekly_goal_baselines_user_goal_week",
+                columnNames = {"user_id", "goal_id", "year", "month", "week_number"})
+}, indexes = {
+        @Index(name = "idx_weekly_goal_baselines_user_week", columnList = "user_id, year, month, week_number")
+})
 @NoArgsConstructor
 public class WeeklyGoalBaseline extends BaseTimeEntity {
 
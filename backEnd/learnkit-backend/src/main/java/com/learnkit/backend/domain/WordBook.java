@@ -19,7 +19,7 @@ public class WordBook extends BaseTimeEntity{
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY) // 기본값(EAGER)이면 단어장/카드 조회마다 users까지 함께 조회됨
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -145,6 +145,13 @@ public class WordBook extends BaseTimeEntity{
         return (long) totalCards * BASE_SCORE_MULTIPLIER;
     }
 
+    /**
+     * 단어장 엔티티 없이 빈도 비율만으로 interval 계산 (카드 복습 시 조회한 비율 사용)
+     */
+    public static long calculateInterval(long totalCards, int frequencyRatio) {
+        return totalCards * BASE_SCORE_MULTIPLIER / frequencyRatio;
+    }
+
     /**
      * HARD 난이도의 interval 계산
      */
@@ -13,10 +13,20 @@ import java.time.temporal.ChronoUnit;
  */
 @Getter
 @Entity
-@Table(name = "wordbook_study_sessions")
+@Table(name = "wordbook_study_sessions", uniqueConstraints = {
+        // 사용자당 진행 중인 세션은 하나만 허용
+        @UniqueConstraint(name = WordBookStudySession.ACTIVE_USER_CONSTRAINT, columnNames = "active_user_id")
+}, indexes = {
+        @Index(name = "idx_wordbook_study_sessions_user_started", columnList = "user_id, started_at"),
+        @Index(name = "idx_wordbook_study_sessions_user_ended", columnList = "user_id, ended_at"),
+        @Index(name = "idx_wordbook_study_sessions_wordbook_started", columnList = "wordbook_id, started_at")
+})
 @NoArgsConstructor
 public class WordBookStudySession extends BaseTimeEntity {
 
+    // 진행 중 세션 유니크 제약 이름 (중복 시작 예외 판별, 서버 시작 시 제약 확인용)
+    public static final String ACTIVE_USER_CONSTRAINT = "uk_wordbook_study_sessions_active_user";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -34,6 +44,14 @@ public class WordBookStudySession extends BaseTimeEntity {
 
     private LocalDateTime endedAt;
 
+    // 진행 중(ended_at IS NULL)이면 user_id, 종료되면 NULL인 생성 컬럼 (유니크 제약용, DB가 계산)
+    @Column(name = "active_user_id", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS (CASE WHEN ended_at IS NULL THEN user_id END) STORED")
+    private Long activeUserId;
+
+    @Column(nullable = false)
+    private int durationMinutes = 0; // 학습 시간 (분), 종료 시 저장
+
     // 시작 시점 난이도 분포
     @Column(nullable = false)
     private int startHardCount = 0;
@@ -71,6 +89,7 @@ public class WordBookStudySession extends BaseTimeEntity {
         }
 
         this.endedAt = LocalDateTime.now();
+        this.durationMinutes = (int) ChronoUnit.MINUTES.between(this.startedAt, this.endedAt);
         this.endHardCount = hardCount;
         this.endNormalCount = normalCount;
         this.endEasyCount = easyCount;
@@ -82,14 +101,4 @@ public class WordBookStudySession extends BaseTimeEntity {
     public boolean isInProgress() {
         return this.endedAt == null;
     }
-
-    /**
-     * 학습 시간 계산 (분)
-     */
-    public int getDurationMinutes() {
-        if (this.endedAt == null) {
-            return 0;
-        }
-        return (int) ChronoUnit.MINUTES.between(this.startedAt, this.endedAt);
-    }
 }
\ No newline at end of file
@@ -91,4 +91,34 @@ public class GoalDto {
         }
 
     }
+
+    /**
+     * 목표 달성 예측 응답 DTO
+     * GET /api/goals/{goalId}/forecast, GET /api/users/{userId}/goals/forecast
+     */
+    @Getter
+    public static class Forecast {
+        private final Integer goalId;
+        private final String title;
+        private final String targetUnit;
+        private final int remainingAmount;
+        private final double dailyRate;                   // 최근 일일 달성 속도 (지수 가중, 단위/일)
+        private final Double requiredDailyRate;           // 마감까지 끝내려면 필요한 일일 달성량 (마감이 없거나 지났으면 null)
+        private final LocalDate endDate;
+        private final LocalDate projectedCompletionDate;  // 지금 속도로 끝나는 날 (기록이 없으면 null)
+        private final Boolean onTrack;                    // 마감 안에 끝나는지 (마감이 없거나 판단할 기록이 없으면 null)
+
+        public Forecast(Goal goal, int remainingAmount, double dailyRate, Double requiredDailyRate,
+                        LocalDate projectedCompletionDate, Boolean onTrack) {
+            this.goalId = goal.getId();
+            this.title = goal.getTitle();
+            this.targetUnit = goal.getTargetUnit();
+            this.remainingAmount = remainingAmount;
+            this.dailyRate = dailyRate;
+            this.requiredDailyRate = requiredDailyRate;
+            this.endDate = goal.getEndDate();
+            this.projectedCompletionDate = projectedCompletionDate;
+            this.onTrack = onTrack;
+        }
+    }
 }
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * GoalStudySession(목표 학습 세션) 관련 DTO들을 관리하는 클래스
@@ -51,19 +52,42 @@ public class GoalStudySessionDto {
         private final boolean inProgress;
 
         public Response(GoalStudySession session) {
+            this(session, session.getPomoCount());
+        }
+
+        /**
+         * 아직 DB에 반영되지 않은 최신 포모도로 카운트로 응답할 때 사용
+         */
+        public Response(GoalStudySession session, int pomoCount) {
             this.id = session.getId();
             this.goalId = session.getGoal() != null ? session.getGoal().getId() : null;
             this.goalTitle = session.getGoal() != null ? session.getGoal().getTitle() : null;
             this.startedAt = session.getStartedAt();
             this.endedAt = session.getEndedAt();
             this.achievedAmount = session.getAchievedAmount();
-            this.durationMinutes = session.getDurationMinutes();
-            this.pomoCount = session.getPomoCount();
+            this.durationMinutes = session.isInProgress()
+                    ? pomoCount * GoalStudySession.POMODORO_MINUTES
+                    : session.getDurationMinutes();
+            this.pomoCount = pomoCount;
             this.note = session.getNote();
             this.inProgress = session.isInProgress();
         }
     }
 
+    /**
+     * 학습 세션 목록 페이지 응답 DTO (최신순, 키셋 페이지네이션)
+     */
+    @Getter
+    public static class PageResponse {
+        private final List<Response> items;
+        private final String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+
+        public PageResponse(List<Response> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+    }
+
     /**
      * 학습 통계 응답 DTO
      */
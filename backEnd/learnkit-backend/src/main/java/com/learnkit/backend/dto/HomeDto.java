@@ -0,0 +1,48 @@
+package com.learnkit.backend.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 홈 화면 관련 DTO들을 관리하는 클래스
+ */
+public class HomeDto {
+
+    /**
+     * 홈 화면 응답 DTO (홈 화면에 필요한 데이터를 한 번에)
+     * GET /api/users/{userId}/home
+     */
+    @Getter
+    public static class Response {
+        private final UserDto.Response user;
+        private final List<WordBookDto.Response> wordBooks;
+        private final CardDto.StatisticsResponse cardStatistics;              // 전체 단어장 난이도별 카드 수
+        private final List<GoalDto.Response> activeGoals;
+        private final List<ScheduleDto.Response> schedules;                   // 요청 기간의 일정 (반복 일정은 회차별)
+        private final GoalStudySessionDto.Response activeGoalSession;         // 진행 중인 목표 학습 세션 (없으면 null)
+        private final WordBookStudySessionDto.Response activeWordBookSession; // 진행 중인 단어장 학습 세션 (없으면 null)
+        private final WeeklyStatsDto.Response weeklyStats;
+        private final AppLaunchDto.PeakHoursResponse peakHours;
+
+        public Response(UserDto.Response user,
+                        List<WordBookDto.Response> wordBooks,
+                        CardDto.StatisticsResponse cardStatistics,
+                        List<GoalDto.Response> activeGoals,
+                        List<ScheduleDto.Response> schedules,
+                        GoalStudySessionDto.Response activeGoalSession,
+                        WordBookStudySessionDto.Response activeWordBookSession,
+                        WeeklyStatsDto.Response weeklyStats,
+                        AppLaunchDto.PeakHoursResponse peakHours) {
+            this.user = user;
+            this.wordBooks = wordBooks;
+            this.cardStatistics = cardStatistics;
+            this.activeGoals = activeGoals;
+            this.schedules = schedules;
+            this.activeGoalSession = activeGoalSession;
+            this.activeWordBookSession = activeWordBookSession;
+            this.weeklyStats = weeklyStats;
+            this.peakHours = peakHours;
+        }
+    }
+}
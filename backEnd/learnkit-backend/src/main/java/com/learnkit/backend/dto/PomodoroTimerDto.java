@@ -0,0 +1,36 @@
+package com.learnkit.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서버 포모도로 타이머 관련 DTO들을 관리하는 클래스
+ */
+public class PomodoroTimerDto {
+
+    /**
+     * 타이머 상태 응답 DTO (SSE 이벤트 데이터로도 사용)
+     */
+    @Getter
+    public static class State {
+        private final Integer sessionId;
+        private final String event;              // SNAPSHOT, STARTED, PAUSED, RESET, FOCUS_COMPLETED, BREAK_COMPLETED, ENDED
+        private final String phase;              // FOCUS, SHORT_BREAK, LONG_BREAK
+        private final boolean running;
+        private final long remainingSeconds;     // 현재 단계 남은 시간
+        private final LocalDateTime phaseEndsAt; // 현재 단계 종료 예정 시각 (일시정지 중이면 null)
+        private final int pomoCount;             // 완료한 포모도로 수
+
+        public State(Integer sessionId, String event, String phase, boolean running,
+                     long remainingSeconds, LocalDateTime phaseEndsAt, int pomoCount) {
+            this.sessionId = sessionId;
+            this.event = event;
+            this.phase = phase;
+            this.running = running;
+            this.remainingSeconds = remainingSeconds;
+            this.phaseEndsAt = phaseEndsAt;
+            this.pomoCount = pomoCount;
+        }
+    }
+}
@@ -4,7 +4,11 @@ import com.learnkit.backend.domain.Schedule;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Schedule(일정) 관련 DTO들을 관리하는 클래스
@@ -24,6 +28,14 @@ public class ScheduleDto {
         private LocalDateTime startTime;
         private LocalDateTime endTime;
 
+        // 반복 규칙 (recurrenceFrequency가 없으면 단일 일정)
+        private Schedule.Frequency recurrenceFrequency;
+        private Integer recurrenceInterval;        // 기본 1
+        private LocalDateTime recurrenceUntil;     // 없으면 종료일 없음
+        private List<LocalDate> recurrenceExceptions;
+
+        private Boolean allowOverlap;  // true면 다른 일정과 겹쳐도 저장
+
         public Schedule toEntity() {
             return new Schedule(
                     this.title,
@@ -46,6 +58,15 @@ public class ScheduleDto {
         private LocalDateTime startTime;
         private LocalDateTime endTime;
         private Boolean isCompleted;
+
+        // 반복 규칙 (recurrenceFrequency를 보내면 규칙 전체 교체, 제외 날짜만 보내면 제외 날짜만 교체)
+        private Schedule.Frequency recurrenceFrequency;
+        private Integer recurrenceInterval;
+        private LocalDateTime recurrenceUntil;
+        private List<LocalDate> recurrenceExceptions;
+        private Boolean removeRecurrence;          // true면 반복 해제
+
+        private Boolean allowOverlap;              // true면 다른 일정과 겹쳐도 저장
     }
 
     /**
@@ -59,14 +80,47 @@ public class ScheduleDto {
         private final LocalDateTime startTime;
         private final LocalDateTime endTime;
         private final boolean isCompleted;
+        private final Schedule.Frequency recurrenceFrequency; // 단일 일정이면 null
+        private final Integer recurrenceInterval;
+        private final LocalDateTime recurrenceUntil;
+        private final List<LocalDate> recurrenceExceptions;
 
         public Response(Schedule schedule) {
+            this(schedule, schedule.getStartTime(), schedule.getEndTime());
+        }
+
+        // 반복 일정의 한 회차 (시작/종료 시간만 회차 값)
+        public Response(Schedule schedule, Schedule.Occurrence occurrence) {
+            this(schedule, occurrence.startTime(), occurrence.endTime());
+        }
+
+        private Response(Schedule schedule, LocalDateTime startTime, LocalDateTime endTime) {
             this.id = schedule.getId();
             this.title = schedule.getTitle();
             this.description = schedule.getDescription();
-            this.startTime = schedule.getStartTime();
-            this.endTime = schedule.getEndTime();
+            this.startTime = startTime;
+            this.endTime = endTime;
             this.isCompleted = schedule.isCompleted();
+            this.recurrenceFrequency = schedule.getRecurrenceFrequency();
+            this.recurrenceInterval = schedule.getRecurrenceInterval();
+            this.recurrenceUntil = schedule.getRecurrenceUntil();
+            this.recurrenceExceptions = schedule.getRecurrenceExceptions();
+        }
+    }
+
+    /**
+     * [응답용] 빈 시간 DTO
+     */
+    @Getter
+    public static class FreeSlot {
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final long durationMinutes;
+
+        public FreeSlot(LocalDateTime startTime, LocalDateTime endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.durationMinutes = Duration.between(startTime, endTime).toMinutes();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.learnkit.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학습 달력(히트맵 / 연속 학습 일수) 관련 DTO들을 관리하는 클래스
+ */
+public class StudyCalendarDto {
+
+    /**
+     * 연간 학습 달력 응답 DTO
+     * GET /api/users/{userId}/study-calendar
+     */
+    @Getter
+    public static class Response {
+        private final int year;
+        private final int studiedDayCount; // 학습한 날 수
+        private final int currentStreak;   // 현재 연속 학습 일수 (오늘 또는 어제까지)
+        private final int longestStreak;   // 해당 연도 최장 연속 학습 일수
+        private final List<Day> days;      // 학습한 날만 (날짜순)
+
+        public Response(int year, int studiedDayCount, int currentStreak, int longestStreak, List<Day> days) {
+            this.year = year;
+            this.studiedDayCount = studiedDayCount;
+            this.currentStreak = currentStreak;
+            this.longestStreak = longestStreak;
+            this.days = days;
+        }
+    }
+
+    /**
+     * 학습한 하루 (히트맵 한 칸)
+     */
+    @Getter
+    public static class Day {
+        private final LocalDate date;
+        private final int studyMinutes; // 포모도로 + 단어장 학습 시간 (분)
+
+        public Day(LocalDate date, int studyMinutes) {
+            this.date = date;
+            this.studyMinutes = studyMinutes;
+        }
+    }
+}
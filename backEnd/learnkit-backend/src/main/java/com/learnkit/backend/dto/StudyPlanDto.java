@@ -0,0 +1,77 @@
+package com.learnkit.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학습 계획(목표 분량을 빈 시간에 배치) 관련 DTO들을 관리하는 클래스
+ */
+public class StudyPlanDto {
+
+    /**
+     * 학습 계획 응답 DTO
+     * GET /api/users/{userId}/study-plan
+     */
+    @Getter
+    public static class Response {
+        private final LocalDate from;
+        private final LocalDate to;          // 마지막 계획 날짜 (포함)
+        private final List<GoalPlan> goals;  // 마감이 빠른 순
+        private final List<Block> blocks;    // 시작 시간순
+
+        public Response(LocalDate from, LocalDate to, List<GoalPlan> goals, List<Block> blocks) {
+            this.from = from;
+            this.to = to;
+            this.goals = goals;
+            this.blocks = blocks;
+        }
+    }
+
+    /**
+     * 목표별 계획 요약
+     */
+    @Getter
+    public static class GoalPlan {
+        private final Integer goalId;
+        private final String title;
+        private final String targetUnit;
+        private final int remainingAmount;     // 계획 시작 시점의 남은 분량
+        private final double minutesPerUnit;   // 단위당 예상 소요 시간 (분)
+        private final long plannedMinutes;     // 기간 안에 배치한 학습 시간
+        private final long shortfallMinutes;   // 마감일(또는 기간 끝)까지 배치하지 못한 남은 시간
+
+        public GoalPlan(Integer goalId, String title, String targetUnit, int remainingAmount,
+                        double minutesPerUnit, long plannedMinutes, long shortfallMinutes) {
+            this.goalId = goalId;
+            this.title = title;
+            this.targetUnit = targetUnit;
+            this.remainingAmount = remainingAmount;
+            this.minutesPerUnit = minutesPerUnit;
+            this.plannedMinutes = plannedMinutes;
+            this.shortfallMinutes = shortfallMinutes;
+        }
+    }
+
+    /**
+     * 빈 시간에 배치한 학습 블록 하나
+     */
+    @Getter
+    public static class Block {
+        private final Integer goalId;
+        private final String goalTitle;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final long minutes;
+
+        public Block(Integer goalId, String goalTitle, LocalDateTime startTime, LocalDateTime endTime, long minutes) {
+            this.goalId = goalId;
+            this.goalTitle = goalTitle;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.minutes = minutes;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.learnkit.backend.dto;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.domain.WordBookStudySession;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학습 타임라인(목표 + 단어장 세션 통합 기록) 관련 DTO들을 관리하는 클래스
+ */
+public class StudyTimelineDto {
+
+    /**
+     * 타임라인 한 페이지 응답 DTO
+     * GET /api/users/{userId}/study-sessions/timeline
+     */
+    @Getter
+    public static class PageResponse {
+        private final List<Item> items;    // 최신순
+        private final String nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null)
+
+        public PageResponse(List<Item> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    /**
+     * 타임라인 항목 (세션 종류에 해당하지 않는 필드는 null)
+     */
+    @Getter
+    public static class Item {
+        private final String type; // GOAL 또는 WORDBOOK
+        private final Integer id;
+        private final LocalDateTime startedAt;
+        private final LocalDateTime endedAt;
+        private final int durationMinutes;
+        private final boolean inProgress;
+
+        // 목표 학습 세션
+        private final Integer goalId;
+        private final String goalTitle;
+        private final Integer pomoCount;
+        private final Integer achievedAmount;
+        private final String note;
+
+        // 단어장 학습 세션
+        private final Long wordBookId;
+        private final String wordBookTitle;
+        private final Integer startHardCount;
+        private final Integer startNormalCount;
+        private final Integer startEasyCount;
+        private final Integer endHardCount;
+        private final Integer endNormalCount;
+        private final Integer endEasyCount;
+
+        public Item(GoalStudySession session) {
+            this.type = "GOAL";
+            this.id = session.getId();
+            this.startedAt = session.getStartedAt();
+            this.endedAt = session.getEndedAt();
+            this.durationMinutes = session.getDurationMinutes();
+            this.inProgress = session.isInProgress();
+            this.goalId = session.getGoal() != null ? session.getGoal().getId() : null;
+            this.goalTitle = session.getGoal() != null ? session.getGoal().getTitle() : null;
+            this.pomoCount = session.getPomoCount();
+            this.achievedAmount = session.getAchievedAmount();
+            this.note = session.getNote();
+            this.wordBookId = null;
+            this.wordBookTitle = null;
+            this.startHardCount = null;
+            this.startNormalCount = null;
+            this.startEasyCount = null;
+            this.endHardCount = null;
+            this.endNormalCount = null;
+            this.endEasyCount = null;
+        }
+
+        public Item(WordBookStudySession session) {
+            this.type = "WORDBOOK";
+            this.id = session.getId();
+            this.startedAt = session.getStartedAt();
+            this.endedAt = session.getEndedAt();
+            this.durationMinutes = session.getDurationMinutes();
+            this.inProgress = session.isInProgress();
+            this.goalId = null;
+            this.goalTitle = null;
+            this.pomoCount = null;
+            this.achievedAmount = null;
+            this.note = null;
+            this.wordBookId = session.getWordBook().getId();
+            this.wordBookTitle = session.getWordBook().getTitle();
+            this.startHardCount = session.getStartHardCount();
+            this.startNormalCount = session.getStartNormalCount();
+            this.startEasyCount = session.getStartEasyCount();
+            this.endHardCount = session.getEndHardCount();
+            this.endNormalCount = session.getEndNormalCount();
+            this.endEasyCount = session.getEndEasyCount();
+        }
+    }
+}
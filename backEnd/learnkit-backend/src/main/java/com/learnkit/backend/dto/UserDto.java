@@ -50,6 +50,17 @@ public class UserDto {
         private String profileImageUrl;  // Supabase에서 받은 이미지 URL
     }
 
+    /**
+     * [요청용] 푸시 토큰 등록 DTO
+     * PUT /api/users/{userId}/push-token
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class PushTokenRequest {
+        private String pushToken;  // 기기의 푸시 알림 토큰
+    }
+
     /**
      * [요청용] 비밀번호 변경을 위한 DTO
      */
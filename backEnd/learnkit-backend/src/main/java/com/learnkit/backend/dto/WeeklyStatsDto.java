@@ -2,6 +2,7 @@ package com.learnkit.backend.dto;
 
 import lombok.Getter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -135,4 +136,40 @@ public class WeeklyStatsDto {
             this.unit = unit;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 주간 학습 추이 응답 DTO
+     * GET /api/users/{userId}/weekly-stats/history
+     */
+    @Getter
+    public static class HistoryResponse {
+        private final List<WeekSummary> weeks;  // 오래된 주부터 요청한 마지막 주까지
+
+        public HistoryResponse(List<WeekSummary> weeks) {
+            this.weeks = weeks;
+        }
+    }
+
+    /**
+     * 한 주의 학습 요약 (월요일 ~ 일요일)
+     */
+    @Getter
+    public static class WeekSummary {
+        private final LocalDate weekStart;
+        private final LocalDate weekEnd;
+        private final StudyTime studyTime;          // 학습 시간
+        private final DifficultyChange cardChanges; // 단어장 학습 중 난이도 변화량
+        private final int achievedAmount;           // 목표 학습 달성량 합계
+        private final int sessionCount;             // 학습 세션 수 (포모도로 + 단어장)
+
+        public WeekSummary(LocalDate weekStart, StudyTime studyTime, DifficultyChange cardChanges,
+                           int achievedAmount, int sessionCount) {
+            this.weekStart = weekStart;
+            this.weekEnd = weekStart.plusDays(6);
+            this.studyTime = studyTime;
+            this.cardChanges = cardChanges;
+            this.achievedAmount = achievedAmount;
+            this.sessionCount = sessionCount;
+        }
+    }
+}
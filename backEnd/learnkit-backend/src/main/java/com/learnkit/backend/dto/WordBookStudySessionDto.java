@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * WordBookStudySession(단어장 학습 세션) 관련 DTO들을 관리하는 클래스
@@ -73,6 +74,20 @@ public class WordBookStudySessionDto {
         }
     }
 
+    /**
+     * 단어장 학습 세션 목록 페이지 응답 DTO (최신순, 키셋 페이지네이션)
+     */
+    @Getter
+    public static class PageResponse {
+        private final List<Response> items;
+        private final String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+
+        public PageResponse(List<Response> items, String nextCursor) {
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+    }
+
     /**
      * 단어장 학습 통계 응답 DTO
      */
@@ -3,6 +3,8 @@ package com.learnkit.backend.exception;
 import com.learnkit.backend.exception.custom.CardNotFoundException;
 import com.learnkit.backend.exception.custom.GoalNotFoundException;
 import com.learnkit.backend.exception.custom.GoalStudySessionNotFoundException;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+import com.learnkit.backend.exception.custom.ScheduleConflictException;
 import com.learnkit.backend.exception.custom.ScheduleNotFoundException;
 import com.learnkit.backend.exception.custom.UserNotFoundException;
 import com.learnkit.backend.exception.custom.WordBookNotFoundException;
@@ -133,4 +135,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 잘못된 요청(파라미터 범위 오류 등)을 처리
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException e) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                e.getMessage(),
+                LocalDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 일정 시간 충돌을 처리
+     */
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<ErrorResponse> handleScheduleConflict(ScheduleConflictException e) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                e.getMessage(),
+                LocalDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
 }
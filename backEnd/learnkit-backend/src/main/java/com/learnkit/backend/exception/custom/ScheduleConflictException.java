@@ -0,0 +1,13 @@
+package com.learnkit.backend.exception.custom;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장하려는 일정이 기존 일정과 시간이 겹칠 때 던지는 예외
+ */
+public class ScheduleConflictException extends RuntimeException {
+
+    public ScheduleConflictException(String conflictingTitle, LocalDateTime conflictingStartTime) {
+        super("다른 일정과 시간이 겹칩니다: " + conflictingTitle + " (" + conflictingStartTime + ")");
+    }
+}
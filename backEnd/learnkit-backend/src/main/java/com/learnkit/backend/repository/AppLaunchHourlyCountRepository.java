@@ -0,0 +1,50 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.domain.AppLaunchHourlyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시간대별 앱 실행 횟수 집계 Repository
+ */
+@Repository
+public interface AppLaunchHourlyCountRepository extends JpaRepository<AppLaunchHourlyCount, Long> {
+
+    /**
+     * 특정 사용자의 지정 날짜 이후 집계 조회 (시간대 분석용)
+     */
+    List<AppLaunchHourlyCount> findByUserIdAndLaunchDateGreaterThanEqual(Long userId, LocalDate since);
+
+    /**
+     * 지정한 원본 실행 기록들을 (사용자, 날짜, 시) 단위로 집계하여 누적 (압축용)
+     * 집계 행을 조회하지 않고 한 문장으로 처리 (MySQL upsert)
+     *
+     * @param launchIds 압축할 실행 기록 ID 목록
+     * @return 영향받은 행 수 (MySQL 기준: 새 행 1, 누적한 행 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO app_launch_hourly_counts (user_id, launch_date, launch_hour, launch_count) " +
+            "SELECT c.user_id, c.launch_date, c.launch_hour, c.launches FROM (" +
+            "  SELECT user_id, DATE(launch_time) AS launch_date, HOUR(launch_time) AS launch_hour, " +
+            "  COUNT(*) AS launches FROM app_launches WHERE id IN (:launchIds) " +
+            "  GROUP BY user_id, DATE(launch_time), HOUR(launch_time)" +
+            ") c " +
+            "ON DUPLICATE KEY UPDATE launch_count = launch_count + c.launches",
+            nativeQuery = true)
+    int addLaunches(@Param("launchIds") List<Integer> launchIds);
+
+    /**
+     * 지정 날짜 이전의 집계를 최대 limit건 삭제 (시간대 분석 기간이 지난 집계 정리용)
+     *
+     * @return 삭제한 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM app_launch_hourly_counts WHERE launch_date < :before LIMIT :limit", nativeQuery = true)
+    int deleteLaunchedBefore(@Param("before") LocalDate before, @Param("limit") int limit);
+}
@@ -1,11 +1,13 @@
 package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.AppLaunch;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,12 +18,34 @@ import java.util.List;
 public interface AppLaunchRepository extends JpaRepository<AppLaunch, Integer> {
 
     /**
-     * 최근 N일간의 앱 실행 기록 조회 (시간대 분석용)
+     * 최근 N일간의 일자별/시간대별 앱 실행 횟수 집계 (시간대 분석 캐시 재구성용)
+     * 엔티티를 불러오지 않고 DB에서 최대 (일수 x 24)개 행으로 집계함
      * @param userId 사용자 ID
      * @param since 조회 시작 시점
-     * @return 지정 시점 이후의 앱 실행 기록 목록 (최신순 정렬)
+     * @return 실행 기록이 있는 일자, 시간대와 실행 횟수 목록
      */
      // ":" 쿼리문의 빈칸을 만듦. "since" 빈칸에 들어갈 변수의 이름. :since 안에 매개변수로 받은 since가 들어감
-    @Query("SELECT a FROM AppLaunch a WHERE a.user.id = :userId AND a.launchTime >= :since ORDER BY a.launchTime DESC")
-    List<AppLaunch> findRecentLaunches(@Param("userId") Long userId, @Param("since") LocalDateTime since);
-}
\ No newline at end of file
+    @Query("SELECT CAST(a.launchTime AS LocalDate) AS launchDate, EXTRACT(HOUR FROM a.launchTime) AS launchHour, " +
+            "COUNT(a) AS launchCount " +
+            "FROM AppLaunch a WHERE a.user.id = :userId AND a.launchTime >= :since " +
+            "GROUP BY CAST(a.launchTime AS LocalDate), EXTRACT(HOUR FROM a.launchTime)")
+    List<DailyHourlyLaunchCount> countLaunchesByDayAndHour(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 일자별/시간대별 실행 횟수 집계 결과
+     */
+    interface DailyHourlyLaunchCount {
+        LocalDate getLaunchDate();  // 실행 일자
+        Integer getLaunchHour();    // 시간대 (0~23)
+        Long getLaunchCount();      // 실행 횟수
+    }
+
+    /**
+     * 지정 시점 이전의 실행 기록 ID를 오래된 순으로 조회 (압축 대상 선정용)
+     * @param before 보관 기준 시점
+     * @param pageable 한 번에 처리할 최대 건수
+     * @return 실행 기록 ID 목록
+     */
+    @Query("SELECT a.id FROM AppLaunch a WHERE a.launchTime < :before ORDER BY a.id")
+    List<Integer> findIdsLaunchedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
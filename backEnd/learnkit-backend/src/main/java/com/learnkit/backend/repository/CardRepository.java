@@ -2,9 +2,14 @@ package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.Card;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Card 엔티티의 데이터베이스 접근을 담당하는 Repository
@@ -58,7 +63,7 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      * @return reviewPriority가 가장 작은 카드 (Optional)
      */
     // findFirst - 첫 번째 결과만 가져옴 By - WHERE 절 시작 WordBookId - 단어장 ID 조건 OrderBy - 정렬 ReviewPriority - 정렬 기준 필드 Asc - 오름차순
-    java.util.Optional<Card> findFirstByWordBookIdOrderByReviewPriorityAsc(Long wordBookId);
+    Optional<Card> findFirstByWordBookIdOrderByReviewPriorityAsc(Long wordBookId);
 
     /**
      * 특정 사용자의 모든 카드 조회 (주간 통계용)
@@ -67,4 +72,41 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      * @return 사용자의 모든 카드 목록
      */
     List<Card> findByWordBookUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 카드 복습에 필요한 단어장 빈도 비율과 단어장 카드 수를 한 번에 조회 (엔티티를 불러오지 않음)
+     *
+     * @param cardId 카드 ID
+     * @return 복습 계산 정보 (카드가 없으면 empty)
+     */
+    @Query("SELECT w.hardFrequencyRatio AS hardFrequencyRatio, w.normalFrequencyRatio AS normalFrequencyRatio, " +
+            "w.easyFrequencyRatio AS easyFrequencyRatio, " +
+            "(SELECT COUNT(c2) FROM Card c2 WHERE c2.wordBook = w) AS totalCards " +
+            "FROM Card c JOIN c.wordBook w WHERE c.id = :cardId")
+    Optional<ReviewContext> findReviewContext(@Param("cardId") Long cardId);
+
+    /**
+     * 카드 복습 결과를 한 문장으로 반영 (우선순위 누적, 조회 수 증가)
+     * 읽고-수정-쓰기 없이 DB에서 증가시키므로 여러 기기에서 동시에 복습해도 누락 없음
+     * 벌크 업데이트라 Auditing이 동작하지 않으므로 updatedAt을 직접 설정
+     *
+     * @return 갱신된 행 수 (카드가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Card c SET c.difficulty = :difficulty, c.lastReviewedAt = :now, c.viewCount = c.viewCount + 1, " +
+            "c.reviewPriority = c.reviewPriority + :interval, c.updatedAt = :now WHERE c.id = :cardId")
+    int applyReview(@Param("cardId") Long cardId,
+                    @Param("difficulty") Card.Difficulty difficulty,
+                    @Param("interval") long interval,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 카드 복습 계산 정보 (Interface Projection)
+     */
+    interface ReviewContext {
+        Integer getHardFrequencyRatio();
+        Integer getNormalFrequencyRatio();
+        Integer getEasyFrequencyRatio();
+        Long getTotalCards();
+    }
+}
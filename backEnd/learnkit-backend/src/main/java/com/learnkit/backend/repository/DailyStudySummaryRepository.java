@@ -0,0 +1,119 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.domain.DailyStudySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DailyStudySummary 엔티티의 데이터베이스 접근을 담당하는 Repository
+ * 누적은 조회 없이 한 문장으로 처리하도록 MySQL upsert(INSERT ... ON DUPLICATE KEY UPDATE)를 사용
+ */
+@Repository
+public interface DailyStudySummaryRepository extends JpaRepository<DailyStudySummary, Long> {
+
+    /**
+     * 특정 사용자의 기간 내 일일 요약 조회 (날짜순)
+     */
+    List<DailyStudySummary> findByUserIdAndStudyDateBetweenOrderByStudyDate(Long userId, LocalDate start, LocalDate end);
+
+    /**
+     * 특정 날짜의 세션 수 (목표 + 단어장), 요약이 없으면 null
+     */
+    @Query(value = "SELECT goal_session_count + wordbook_session_count FROM daily_study_summaries " +
+            "WHERE user_id = :userId AND study_date = :studyDate", nativeQuery = true)
+    Integer countSessionsOn(@Param("userId") Long userId, @Param("studyDate") LocalDate studyDate);
+
+    /**
+     * 세션이 1건 이상 있는 모든 (사용자, 날짜) 조회 (학습 달력 초기화용)
+     */
+    @Query("SELECT s.user.id AS userId, s.studyDate AS studyDate FROM DailyStudySummary s " +
+            "WHERE s.goalSessionCount + s.wordBookSessionCount > 0")
+    List<StudyDay> findAllStudyDays();
+
+    /**
+     * 목표 학습 세션 1건을 일일 요약에 누적 (sign = 1 추가, -1 취소)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_study_summaries (user_id, study_date, goal_session_count, pomodoro_minutes, " +
+            "pomo_count, achieved_amount, wordbook_session_count, wordbook_minutes, hard_change, normal_change, " +
+            "easy_change, created_at, updated_at) " +
+            "VALUES (:userId, :studyDate, :sign, :minutes, :pomoCount, :achievedAmount, 0, 0, 0, 0, 0, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE goal_session_count = goal_session_count + :sign, " +
+            "pomodoro_minutes = pomodoro_minutes + :minutes, pomo_count = pomo_count + :pomoCount, " +
+            "achieved_amount = achieved_amount + :achievedAmount, updated_at = :now",
+            nativeQuery = true)
+    void addGoalSession(@Param("userId") Long userId, @Param("studyDate") LocalDate studyDate,
+                        @Param("sign") int sign, @Param("minutes") int minutes, @Param("pomoCount") int pomoCount,
+                        @Param("achievedAmount") int achievedAmount, @Param("now") LocalDateTime now);
+
+    /**
+     * 단어장 학습 세션 1건을 일일 요약에 누적 (sign = 1 추가, -1 취소)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_study_summaries (user_id, study_date, goal_session_count, pomodoro_minutes, " +
+            "pomo_count, achieved_amount, wordbook_session_count, wordbook_minutes, hard_change, normal_change, " +
+            "easy_change, created_at, updated_at) " +
+            "VALUES (:userId, :studyDate, 0, 0, 0, 0, :sign, :minutes, :hardChange, :normalChange, :easyChange, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE wordbook_session_count = wordbook_session_count + :sign, " +
+            "wordbook_minutes = wordbook_minutes + :minutes, hard_change = hard_change + :hardChange, " +
+            "normal_change = normal_change + :normalChange, easy_change = easy_change + :easyChange, updated_at = :now",
+            nativeQuery = true)
+    void addWordBookSession(@Param("userId") Long userId, @Param("studyDate") LocalDate studyDate,
+                            @Param("sign") int sign, @Param("minutes") int minutes, @Param("hardChange") int hardChange,
+                            @Param("normalChange") int normalChange, @Param("easyChange") int easyChange,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 기존 목표 학습 세션 전체로 일일 요약 채우기 (최초 1회)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_study_summaries (user_id, study_date, goal_session_count, pomodoro_minutes, " +
+            "pomo_count, achieved_amount, wordbook_session_count, wordbook_minutes, hard_change, normal_change, " +
+            "easy_change, created_at, updated_at) " +
+            "SELECT g.user_id, g.study_date, g.session_count, g.minutes, g.pomo_count, g.achieved_amount, " +
+            "0, 0, 0, 0, 0, :now, :now FROM (" +
+            "  SELECT user_id, DATE(started_at) AS study_date, COUNT(*) AS session_count, " +
+            "  SUM(duration_minutes) AS minutes, SUM(pomo_count) AS pomo_count, SUM(achieved_amount) AS achieved_amount " +
+            "  FROM goal_study_sessions WHERE ended_at IS NOT NULL GROUP BY user_id, DATE(started_at)" +
+            ") g " +
+            "ON DUPLICATE KEY UPDATE goal_session_count = g.session_count, pomodoro_minutes = g.minutes, " +
+            "pomo_count = g.pomo_count, achieved_amount = g.achieved_amount",
+            nativeQuery = true)
+    int backfillGoalSessions(@Param("now") LocalDateTime now);
+
+    /**
+     * 기존 단어장 학습 세션 전체로 일일 요약 채우기 (최초 1회)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_study_summaries (user_id, study_date, goal_session_count, pomodoro_minutes, " +
+            "pomo_count, achieved_amount, wordbook_session_count, wordbook_minutes, hard_change, normal_change, " +
+            "easy_change, created_at, updated_at) " +
+            "SELECT w.user_id, w.study_date, 0, 0, 0, 0, w.session_count, w.minutes, w.hard_change, " +
+            "w.normal_change, w.easy_change, :now, :now FROM (" +
+            "  SELECT user_id, DATE(started_at) AS study_date, COUNT(*) AS session_count, " +
+            "  SUM(duration_minutes) AS minutes, " +
+            "  SUM(end_hard_count - start_hard_count) AS hard_change, " +
+            "  SUM(end_normal_count - start_normal_count) AS normal_change, " +
+            "  SUM(end_easy_count - start_easy_count) AS easy_change " +
+            "  FROM wordbook_study_sessions WHERE ended_at IS NOT NULL GROUP BY user_id, DATE(started_at)" +
+            ") w " +
+            "ON DUPLICATE KEY UPDATE wordbook_session_count = w.session_count, wordbook_minutes = w.minutes, " +
+            "hard_change = w.hard_change, normal_change = w.normal_change, easy_change = w.easy_change",
+            nativeQuery = true)
+    int backfillWordBookSessions(@Param("now") LocalDateTime now);
+
+    /**
+     * 학습한 날 조회 결과 (Interface Projection)
+     */
+    interface StudyDay {
+        Long getUserId();
+        LocalDate getStudyDate();
+    }
+}
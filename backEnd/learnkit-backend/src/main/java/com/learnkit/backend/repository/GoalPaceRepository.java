@@ -0,0 +1,66 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.domain.GoalPace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface GoalPaceRepository extends JpaRepository<GoalPace, Integer> {
+
+    /**
+     * 세션 하나의 달성량/학습 시간을 목표 학습 속도에 반영 (행이 없으면 생성, MySQL UPSERT)
+     * 기존 누적값은 마지막 학습 이후 경과 시간만큼 감쇠시킨 뒤 이번 달성량을 더함
+     * SET 절은 왼쪽부터 적용되므로 last_studied_at은 감쇠 계산 뒤에 갱신
+     *
+     * @param amount 달성량 (1 이상)
+     * @param minutes 학습 시간 (0이면 단위당 학습 시간은 그대로)
+     * @param timeConstantSeconds 감쇠 시간 상수 (초)
+     * @param smoothing 단위당 학습 시간 평균에서 이번 세션의 가중치 (0~1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO goal_paces (goal_id, decayed_amount, minutes_per_unit, session_count, " +
+            "first_studied_at, last_studied_at, created_at, updated_at) " +
+            "VALUES (:goalId, :amount, CASE WHEN :minutes > 0 THEN :minutes / :amount END, 1, " +
+            ":studiedAt, :studiedAt, :studiedAt, :studiedAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "decayed_amount = decayed_amount * " +
+            "EXP(-GREATEST(TIMESTAMPDIFF(SECOND, last_studied_at, :studiedAt), 0) / :timeConstantSeconds) + :amount, " +
+            "minutes_per_unit = CASE WHEN :minutes <= 0 THEN minutes_per_unit " +
+            "WHEN minutes_per_unit IS NULL THEN :minutes / :amount " +
+            "ELSE :smoothing * (:minutes / :amount) + (1 - :smoothing) * minutes_per_unit END, " +
+            "session_count = session_count + 1, " +
+            "last_studied_at = GREATEST(last_studied_at, :studiedAt), " +
+            "updated_at = :studiedAt", nativeQuery = true)
+    void recordSession(@Param("goalId") Integer goalId,
+                       @Param("amount") int amount,
+                       @Param("minutes") int minutes,
+                       @Param("studiedAt") LocalDateTime studiedAt,
+                       @Param("timeConstantSeconds") double timeConstantSeconds,
+                       @Param("smoothing") double smoothing);
+
+    /**
+     * 기존 세션 기록으로 goal_paces 초기화 (도입 시 한 번, 이미 행이 있는 목표는 건너뜀)
+     * 감쇠는 목표별 마지막 학습 시점 기준, 단위당 학습 시간은 전체 평균으로 시작
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO goal_paces (goal_id, decayed_amount, minutes_per_unit, session_count, " +
+            "first_studied_at, last_studied_at, created_at, updated_at) " +
+            "SELECT s.goal_id, " +
+            "SUM(s.achieved_amount * EXP(-TIMESTAMPDIFF(SECOND, s.ended_at, l.last_ended_at) / :timeConstantSeconds)), " +
+            "SUM(CASE WHEN s.duration_minutes > 0 THEN s.duration_minutes END) " +
+            "/ SUM(CASE WHEN s.duration_minutes > 0 THEN s.achieved_amount END), " +
+            "COUNT(*), MIN(s.ended_at), l.last_ended_at, :now, :now " +
+            "FROM goal_study_sessions s " +
+            "JOIN (SELECT goal_id, MAX(ended_at) AS last_ended_at FROM goal_study_sessions " +
+            "WHERE goal_id IS NOT NULL AND ended_at IS NOT NULL AND achieved_amount > 0 GROUP BY goal_id) l " +
+            "ON l.goal_id = s.goal_id " +
+            "WHERE s.ended_at IS NOT NULL AND s.achieved_amount > 0 " +
+            "GROUP BY s.goal_id, l.last_ended_at", nativeQuery = true)
+    int backfillFromSessions(@Param("timeConstantSeconds") double timeConstantSeconds,
+                             @Param("now") LocalDateTime now);
+}
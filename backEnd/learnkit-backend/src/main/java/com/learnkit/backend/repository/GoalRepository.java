@@ -2,8 +2,12 @@ package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.Goal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -25,4 +29,22 @@ public interface GoalRepository extends JpaRepository<Goal, Integer> {
      * @return 필터링된 목표 목록
      */
     List<Goal> findByUserIdAndIsCompleted(Long userId, boolean isCompleted);
+
+    /**
+     * 목표 진행도 추가 (한 문장으로 원자적으로 처리, 동시에 여러 기기에서 추가해도 누락 없음)
+     * 이번 추가로 목표치에 도달하면 완료 처리하며, 완료 시각은 처음 달성한 시각으로 유지
+     * MySQL은 SET을 왼쪽부터 적용하므로 완료 여부/시각을 진행도보다 먼저 계산함
+     * 영속성 컨텍스트에 이미 올라온 Goal은 갱신되지 않으므로, 결과가 필요하면 호출 후 다시 조회해야 함
+     *
+     * @return 갱신된 행 수 (목표가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Goal g SET " +
+            "g.completedAt = CASE WHEN g.isCompleted = false AND g.currentProgress + :amount >= g.totalTargetAmount " +
+            "THEN :now ELSE g.completedAt END, " +
+            "g.isCompleted = CASE WHEN g.currentProgress + :amount >= g.totalTargetAmount THEN true ELSE g.isCompleted END, " +
+            "g.currentProgress = g.currentProgress + :amount, " +
+            "g.updatedAt = :now " +
+            "WHERE g.id = :id")
+    int addProgress(@Param("id") Integer id, @Param("amount") int amount, @Param("now") LocalDateTime now);
 }
@@ -1,11 +1,19 @@
 package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.GoalStudySession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * GoalStudySession 엔티티의 데이터베이스 접근을 담당하는 Repository
@@ -16,13 +24,43 @@ public interface GoalStudySessionRepository extends JpaRepository<GoalStudySessi
     /**
      * 특정 사용자의 모든 학습 세션을 조회
      */
+    @EntityGraph(attributePaths = "goal")
     List<GoalStudySession> findByUserId(Long userId);
 
     /**
-     * 특정 사용자의 진행 중인 세션 조회 (endedAt == null)
-     * 데이터 정합성 문제로 여러 개가 있을 수 있으므로 List로 반환
+     * 진행 중인 세션인지 확인 (endedAt == null)
      */
-    List<GoalStudySession> findAllByUserIdAndEndedAtIsNull(Long userId);
+    boolean existsByIdAndEndedAtIsNull(Integer id);
+
+    /**
+     * 세션 상세 조회 (목표 함께 조회)
+     */
+    @Query("SELECT s FROM GoalStudySession s LEFT JOIN FETCH s.goal WHERE s.id = :id")
+    Optional<GoalStudySession> findWithDetailsById(@Param("id") Integer id);
+
+    /**
+     * 종료/삭제용 조회 (방치 세션 정리나 다른 종료 요청과 같은 세션을 동시에 종료하지 않도록 행 잠금)
+     * 정리 작업은 잠긴 행을 건너뛰고(SKIP LOCKED), 잠금을 기다린 요청은 이미 종료된 최신 값을 읽음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GoalStudySession s WHERE s.id = :id")
+    Optional<GoalStudySession> findForUpdate(@Param("id") Integer id);
+
+    /**
+     * 모든 진행 중인 세션의 (사용자 ID, 세션 ID), 시작 시간순 (진행 중 세션 레지스트리 재구성용)
+     */
+    @Query("SELECT s.user.id AS userId, s.id AS sessionId FROM GoalStudySession s " +
+            "WHERE s.endedAt IS NULL ORDER BY s.startedAt, s.id")
+    List<ActiveSession> findActiveSessions();
+
+    /**
+     * 사용자별로 가장 최근 것을 제외한 진행 중 세션 ID (진행 중 세션 유니크 제약을 만들기 전 중복 정리용)
+     */
+    @Query(value = "SELECT s.id FROM goal_study_sessions s WHERE s.ended_at IS NULL AND EXISTS (" +
+            "SELECT 1 FROM goal_study_sessions n WHERE n.user_id = s.user_id AND n.ended_at IS NULL " +
+            "AND (n.started_at > s.started_at OR (n.started_at = s.started_at AND n.id > s.id)))",
+            nativeQuery = true)
+    List<Integer> findSupersededActiveSessionIds();
 
     /**
      * 특정 목표에 연결된 모든 학습 세션 조회
@@ -30,8 +68,104 @@ public interface GoalStudySessionRepository extends JpaRepository<GoalStudySessi
     List<GoalStudySession> findByGoalId(Integer goalId);
 
     /**
-     * 특정 사용자의 특정 기간 학습 세션 조회 (통계용)
-     * startedAt 기준으로 조회
+     * 특정 사용자의 세션 첫 페이지 (최신순, 학습 타임라인/목록 페이지용)
+     */
+    @Query("SELECT s FROM GoalStudySession s LEFT JOIN FETCH s.goal WHERE s.user.id = :userId " +
+            "ORDER BY s.startedAt DESC, s.id DESC")
+    List<GoalStudySession> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 특정 사용자의 세션 다음 페이지 (키셋: 커서보다 뒤 순서인 세션만, 최신순)
+     * 커서와 같은 시각인 세션은 id < idBound 인 것만 포함
+     */
+    @Query("SELECT s FROM GoalStudySession s LEFT JOIN FETCH s.goal WHERE s.user.id = :userId " +
+            "AND (s.startedAt < :startedAt OR (s.startedAt = :startedAt AND s.id < :idBound)) " +
+            "ORDER BY s.startedAt DESC, s.id DESC")
+    List<GoalStudySession> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                 @Param("startedAt") LocalDateTime startedAt,
+                                                 @Param("idBound") int idBound,
+                                                 Pageable pageable);
+
+    /**
+     * 특정 목표의 세션 첫 페이지 (최신순)
+     */
+    @Query("SELECT s FROM GoalStudySession s LEFT JOIN FETCH s.goal WHERE s.goal.id = :goalId " +
+            "ORDER BY s.startedAt DESC, s.id DESC")
+    List<GoalStudySession> findPageByGoalId(@Param("goalId") Integer goalId, Pageable pageable);
+
+    /**
+     * 특정 목표의 세션 다음 페이지 (키셋: 커서보다 뒤 순서인 세션만, 최신순)
+     */
+    @Query("SELECT s FROM GoalStudySession s LEFT JOIN FETCH s.goal WHERE s.goal.id = :goalId " +
+            "AND (s.startedAt < :startedAt OR (s.startedAt = :startedAt AND s.id < :idBound)) " +
+            "ORDER BY s.startedAt DESC, s.id DESC")
+    List<GoalStudySession> findPageByGoalIdAfter(@Param("goalId") Integer goalId,
+                                                 @Param("startedAt") LocalDateTime startedAt,
+                                                 @Param("idBound") int idBound,
+                                                 Pageable pageable);
+
+    /**
+     * 진행 중인 세션의 포모도로 카운트 반영 (포모도로 카운트 버퍼 flush용)
+     * 벌크 업데이트라 Auditing이 동작하지 않으므로 updatedAt을 직접 설정
+     */
+    @Modifying
+    @Query("UPDATE GoalStudySession s SET s.pomoCount = :pomoCount, s.durationMinutes = :durationMinutes, " +
+            "s.updatedAt = :now WHERE s.id = :id AND s.endedAt IS NULL")
+    int updatePomoCountIfInProgress(@Param("id") Integer id,
+                                    @Param("pomoCount") int pomoCount,
+                                    @Param("durationMinutes") int durationMinutes,
+                                    @Param("now") LocalDateTime now);
+
+    /**
+     * 오래 방치된 진행 중 세션 한 묶음 조회 (시작/마지막 수정 모두 cutoff 이전), 행 잠금
+     * active_user_id는 진행 중인 세션만 값이 있으므로 유니크 인덱스로 진행 중 세션만 훑음
+     * 사용자가 종료 중인 행은 건너뜀 (SKIP LOCKED)
+     */
+    @Query(value = "SELECT user_id AS userId, id AS sessionId FROM goal_study_sessions " +
+            "WHERE active_user_id IS NOT NULL AND started_at < :cutoff AND updated_at < :cutoff " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ActiveSession> lockStaleSessions(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 방치된 세션 일괄 종료
+     * 마지막 수정 시각을 종료 시각으로 보되 시작 후 maxMinutes를 넘지 않게 하고, 학습 시간도 maxMinutes로 제한
+     */
+    @Modifying
+    @Query(value = "UPDATE goal_study_sessions " +
+            "SET ended_at = LEAST(updated_at, DATE_ADD(started_at, INTERVAL :maxMinutes MINUTE)), " +
+            "duration_minutes = LEAST(pomo_count * :pomodoroMinutes, :maxMinutes), updated_at = :now " +
+            "WHERE id IN (:ids) AND ended_at IS NULL", nativeQuery = true)
+    int closeStaleSessions(@Param("ids") List<Integer> ids,
+                           @Param("maxMinutes") int maxMinutes,
+                           @Param("pomodoroMinutes") int pomodoroMinutes,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * 특정 사용자의 특정 기간 학습 세션 합계 (통계용)
+     * 세션을 불러오지 않고 (user_id, started_at) 인덱스 범위에서 한 번에 집계
+     */
+    @Query("SELECT COUNT(s) AS totalSessions, COALESCE(SUM(s.durationMinutes), 0) AS totalMinutes, " +
+            "COALESCE(SUM(s.pomoCount), 0) AS totalPomoCount, COALESCE(SUM(s.achievedAmount), 0) AS totalAchievedAmount " +
+            "FROM GoalStudySession s WHERE s.user.id = :userId AND s.startedAt BETWEEN :start AND :end")
+    SessionTotals sumByUserIdAndStartedAtBetween(@Param("userId") Long userId,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    /**
+     * 학습 세션 합계 (Interface Projection)
+     */
+    interface SessionTotals {
+        Long getTotalSessions();
+        Long getTotalMinutes();
+        Long getTotalPomoCount();
+        Long getTotalAchievedAmount();
+    }
+
+    /**
+     * 진행 중인 세션 조회 결과 (Interface Projection)
      */
-    List<GoalStudySession> findByUserIdAndStartedAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+    interface ActiveSession {
+        Long getUserId();
+        Integer getSessionId();
+    }
+}
@@ -2,7 +2,13 @@ package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -20,4 +26,46 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // Spring Data JPA가 알아서 SQL 쿼리를 자동으로 만든다.
     // SELECT * FROM schedules WHERE user_id = ?
     List<Schedule> findAllByUserId(Long userId);
+
+    // [from, to) 기간과 겹치는 일정 (시작 시간순, 달력 화면용)
+    // 겹침 조건: 시작 < to 이고 마지막 회차 종료 > from, 시작과 종료가 같은 일정은 시작이 기간 안에 있으면 포함
+    // 반복 일정은 규칙 행 하나만 조회되며, 기간 안의 회차는 Schedule.occurrences로 계산한다.
+    // 짧은 일정은 shortFrom(= from - SHORT_SPAN_DAYS) 이후 시작한 것만 보므로 지난 기록 전체를 훑지 않고,
+    // 긴 일정(긴 단일 일정, 종료일 없는 반복 등)은 사용자별로 적으므로 따로 범위를 잡음
+    // (user_id, long_span, start_time, series_end_time) 인덱스의 두 범위 안에서 처리됨
+    @Query("SELECT s FROM Schedule s WHERE s.user.id = :userId " +
+            "AND (s.longSpan = true OR (s.longSpan = false AND s.startTime >= :shortFrom)) " +
+            "AND s.startTime < :to AND (s.seriesEndTime > :from OR s.startTime >= :from) " +
+            "ORDER BY s.startTime")
+    List<Schedule> findOverlapping(@Param("userId") Long userId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("shortFrom") LocalDateTime shortFrom);
+
+    // 반복 규칙 도입 이전 일정의 series_end_time 채우기 (모두 단일 일정)
+    @Modifying
+    @Query(value = "UPDATE schedules SET series_end_time = end_time WHERE series_end_time IS NULL " +
+            "AND recurrence_frequency IS NULL", nativeQuery = true)
+    int backfillSeriesEndTime();
+
+    // 사용자의 모든 일정의 시간/반복 정보만 조회 (일정 구간 트리 캐시 구성용, 엔티티를 불러오지 않음)
+    @Query("SELECT s.id AS id, s.title AS title, s.startTime AS startTime, s.endTime AS endTime, " +
+            "s.seriesEndTime AS seriesEndTime, s.recurrenceFrequency AS recurrenceFrequency, " +
+            "s.recurrenceInterval AS recurrenceInterval, s.recurrenceUntil AS recurrenceUntil, " +
+            "s.recurrenceExceptions AS recurrenceExceptions " +
+            "FROM Schedule s WHERE s.user.id = :userId")
+    List<ScheduleSpan> findSpansByUserId(@Param("userId") Long userId);
+
+    // 일정 시간/반복 정보 (Interface Projection)
+    interface ScheduleSpan {
+        Long getId();
+        String getTitle();
+        LocalDateTime getStartTime();
+        LocalDateTime getEndTime();
+        LocalDateTime getSeriesEndTime();
+        Schedule.Frequency getRecurrenceFrequency();
+        Integer getRecurrenceInterval();
+        LocalDateTime getRecurrenceUntil();
+        List<LocalDate> getRecurrenceExceptions();
+    }
 }
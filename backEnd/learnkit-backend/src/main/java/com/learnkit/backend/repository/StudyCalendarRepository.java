@@ -0,0 +1,46 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.domain.StudyCalendar;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * StudyCalendar 엔티티의 데이터베이스 접근을 담당하는 Repository
+ */
+@Repository
+public interface StudyCalendarRepository extends JpaRepository<StudyCalendar, Long> {
+
+    Optional<StudyCalendar> findByUserIdAndYear(Long userId, int year);
+
+    /**
+     * 해당 연도 달력이 없으면 빈 달력 추가 (이미 있으면 그대로 둠)
+     * 조회 후 저장하면 같은 사용자의 그 해 첫 세션이 동시에 끝날 때 유니크 제약에 걸리므로 upsert 한 문장으로 처리
+     */
+    @Modifying
+    @Query(value = "INSERT INTO study_calendars (user_id, year, studied_days, created_at, updated_at) " +
+            "VALUES (:userId, :year, :studiedDays, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    void createIfAbsent(@Param("userId") Long userId, @Param("year") int year,
+                        @Param("studiedDays") byte[] studiedDays, @Param("now") LocalDateTime now);
+
+    /**
+     * 비트 갱신용 조회 (같은 행을 동시에 읽고 쓰지 않도록 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM StudyCalendar c WHERE c.user.id = :userId AND c.year = :year")
+    Optional<StudyCalendar> findForUpdate(@Param("userId") Long userId, @Param("year") int year);
+
+    /**
+     * 특정 연도 이전의 달력을 최근 연도부터 조회 (연속 학습 일수가 연도를 넘어갈 때 사용)
+     */
+    List<StudyCalendar> findByUserIdAndYearLessThanOrderByYearDesc(Long userId, int year);
+}
@@ -1,9 +1,16 @@
 package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +24,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일로 사용자 찾기
     // SELECT * FROM users WHERE email = ?
     Optional<User> findByEmail(String email);
+
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID만 조회 (앱 실행 기록 배치 저장이 실패했을 때 탈퇴한 사용자 기록을 걸러내는 용도)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 푸시 토큰이 등록된 사용자를 ID 순으로 afterId 다음부터 조회 (알림 예약 적재용, 키셋 페이지네이션)
+     */
+    @Query("SELECT u.id AS userId, u.pushToken AS pushToken, u.reminderHour AS reminderHour " +
+            "FROM User u WHERE u.pushToken IS NOT NULL AND u.id > :afterId ORDER BY u.id")
+    List<ReminderTarget> findReminderTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 학습 알림 시각 변경 (엔티티를 불러오지 않고 한 번의 UPDATE)
+     * 벌크 UPDATE는 Auditing이 적용되지 않으므로 updatedAt도 직접 설정
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.reminderHour = :reminderHour, u.updatedAt = :now WHERE u.id = :userId")
+    int updateReminderHour(@Param("userId") Long userId,
+                           @Param("reminderHour") int reminderHour,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * 알림 예약 대상 (Interface Projection)
+     */
+    interface ReminderTarget {
+        Long getUserId();
+        String getPushToken();
+        Integer getReminderHour();
+    }
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.learnkit.backend.repository;
 
 import com.learnkit.backend.domain.WeeklyCardBaseline;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,4 +26,10 @@ public interface WeeklyCardBaselineRepository extends JpaRepository<WeeklyCardBa
      */
     boolean existsByUserIdAndYearAndMonthAndWeekNumber(
             Long userId, int year, int month, int weekNumber);
+
+    /**
+     * 특정 주차에 기준선이 있는 사용자 ID 목록 조회 (기준선 캐시 적재용)
+     */
+    @Query("SELECT b.user.id FROM WeeklyCardBaseline b WHERE b.year = :year AND b.month = :month AND b.weekNumber = :weekNumber")
+    List<Long> findUserIdsByWeek(@Param("year") int year, @Param("month") int month, @Param("weekNumber") int weekNumber);
 }
\ No newline at end of file
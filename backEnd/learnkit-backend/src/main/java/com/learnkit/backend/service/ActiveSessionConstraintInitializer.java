@@ -0,0 +1,57 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.domain.WordBookStudySession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중 세션 유니크 제약(active_user_id) 보장
+ * ddl-auto=update는 이미 사용자당 진행 중 세션이 여러 개인 DB에서 제약 생성에 실패하고 경고만 남기므로,
+ * 서버 시작 시 사용자별 가장 최근 세션만 남기고 나머지를 종료한 뒤 제약이 없으면 직접 추가함
+ * 종료한 세션을 일일 요약에 반영하므로 요약 초기화 뒤, 진행 중 세션 레지스트리 재구성 전에 실행됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSessionConstraintInitializer {
+
+    private final GoalStudySessionService goalStudySessionService;
+    private final WordBookStudySessionService wordBookStudySessionService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${learnkit.stale-session.max-duration-minutes:240}")
+    private int maxDurationMinutes;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void closeDuplicatesAndEnsureConstraints() {
+        int goalSessions = goalStudySessionService.closeDuplicateActiveSessions(maxDurationMinutes);
+        int wordBookSessions = wordBookStudySessionService.closeDuplicateActiveSessions(maxDurationMinutes);
+        if (goalSessions + wordBookSessions > 0) {
+            log.warn("중복된 진행 중 세션 종료: 목표 {}건, 단어장 {}건", goalSessions, wordBookSessions);
+        }
+
+        ensureUniqueConstraint("goal_study_sessions", GoalStudySession.ACTIVE_USER_CONSTRAINT);
+        ensureUniqueConstraint("wordbook_study_sessions", WordBookStudySession.ACTIVE_USER_CONSTRAINT);
+    }
+
+    private void ensureUniqueConstraint(String table, String constraintName) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, constraintName);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraintName + " UNIQUE (active_user_id)");
+        log.info("진행 중 세션 유니크 제약 추가: {}.{}", table, constraintName);
+    }
+}
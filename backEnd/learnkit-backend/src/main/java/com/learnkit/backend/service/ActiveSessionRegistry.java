@@ -0,0 +1,126 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import com.learnkit.backend.repository.WordBookStudySessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * 사용자별 진행 중인 학습 세션 ID 레지스트리 (세션 종류별)
+ * 세션 시작/종료/진행 중 조회 때마다 ended_at IS NULL 조회를 하지 않도록 메모리에서 먼저 확인함
+ * 최종 보장은 DB의 진행 중 세션 유니크 제약(active_user_id)이 담당하며, 서버 시작 시 중복 세션을 정리한 뒤 DB에서 재구성됨
+ * 단일 서버 인스턴스를 전제로 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSessionRegistry {
+
+    public enum Kind { GOAL, WORDBOOK }
+
+    private static final int RESERVED = 0; // 시작 중(아직 커밋 전)인 자리, 실제 세션 ID는 1부터
+
+    private final GoalStudySessionRepository goalStudySessionRepository;
+    private final WordBookStudySessionRepository wordBookStudySessionRepository;
+
+    private final ConcurrentHashMap<Long, Integer> goalSessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> wordBookSessions = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 DB의 진행 중 세션으로 재구성
+     * 요청을 처리하는 중에 실행될 수 있으므로, 이미 요청으로 등록된 사용자(시작 중 자리 포함)는 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Integer> goalActive = new HashMap<>();
+        for (GoalStudySessionRepository.ActiveSession active : goalStudySessionRepository.findActiveSessions()) {
+            collect(goalActive, active.getUserId(), active.getSessionId());
+        }
+        goalActive.forEach(goalSessions::putIfAbsent);
+
+        Map<Long, Integer> wordBookActive = new HashMap<>();
+        for (WordBookStudySessionRepository.ActiveSession active : wordBookStudySessionRepository.findActiveSessions()) {
+            collect(wordBookActive, active.getUserId(), active.getSessionId());
+        }
+        wordBookActive.forEach(wordBookSessions::putIfAbsent);
+    }
+
+    // 시작 시간 오름차순으로 들어오므로 중복이 있으면 가장 최근 세션이 남음
+    private void collect(Map<Long, Integer> active, Long userId, Integer sessionId) {
+        Integer previous = active.put(userId, sessionId);
+        if (previous != null) {
+            log.warn("진행 중인 세션이 여러 개입니다: userId={}, sessionIds={}, {}", userId, previous, sessionId);
+        }
+    }
+
+    /**
+     * 진행 중인 세션 ID (없거나 시작 중이면 null)
+     */
+    public Integer activeSessionId(Kind kind, Long userId) {
+        Integer sessionId = sessions(kind).get(userId);
+        return sessionId == null || sessionId == RESERVED ? null : sessionId;
+    }
+
+    /**
+     * 세션 시작 자리 확보
+     * 현재 트랜잭션이 롤백되면 자동으로 반환되며, 커밋 전에 activate로 세션 ID를 기록해야 함
+     * 등록된 세션이 있으면 stillActive로 DB에서 한 번 확인하여, 이미 끝난 세션이면 정리 후 다시 시도함
+     *
+     * @return 이미 진행 중인 세션이 있으면 false
+     */
+    public boolean reserve(Kind kind, Long userId, IntPredicate stillActive) {
+        ConcurrentHashMap<Long, Integer> sessions = sessions(kind);
+        Integer current = sessions.putIfAbsent(userId, RESERVED);
+        if (current != null) {
+            if (current == RESERVED || stillActive.test(current) || !sessions.replace(userId, current, RESERVED)) {
+                return false;
+            }
+        }
+
+        // 롤백되면 이 트랜잭션이 차지한 자리(예약 또는 activate된 ID)를 반환
+        AfterCommit.onCompletion(() -> sessions.remove(userId, RESERVED), () -> sessions.remove(userId));
+        return true;
+    }
+
+    /**
+     * 확보한 자리에 새 세션 ID 기록
+     */
+    public void activate(Kind kind, Long userId, Integer sessionId) {
+        sessions(kind).replace(userId, RESERVED, sessionId);
+    }
+
+    /**
+     * 세션 종료/삭제 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void release(Kind kind, Long userId, Integer sessionId) {
+        ConcurrentHashMap<Long, Integer> sessions = sessions(kind);
+        AfterCommit.run(() -> sessions.remove(userId, sessionId));
+    }
+
+    /**
+     * 저장 실패가 진행 중 세션 유니크 제약 위반 때문인지 확인 (다른 제약 위반은 그대로 전파하도록)
+     */
+    static boolean isActiveSessionConflict(DataIntegrityViolationException e, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // MySQL은 "테이블.제약" 형태로 보고하므로 이름이 포함되는지로 비교
+                return violation.getConstraintName() != null && violation.getConstraintName().contains(constraintName);
+            }
+        }
+        return false;
+    }
+
+    private ConcurrentHashMap<Long, Integer> sessions(Kind kind) {
+        return kind == Kind.GOAL ? goalSessions : wordBookSessions;
+    }
+}
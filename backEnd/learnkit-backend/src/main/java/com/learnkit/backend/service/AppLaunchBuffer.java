@@ -0,0 +1,148 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 앱 실행 기록 쓰기 버퍼 (write-behind)
+ * 요청 스레드는 큐에 넣기만 하고, 백그라운드에서 일정 주기 또는 일정 건수마다 한 트랜잭션으로 모아서 저장함
+ * 엔티티를 거치지 않고 JDBC 배치 INSERT로 저장함 (IDENTITY 키라 Hibernate는 INSERT를 배치로 묶지 못함)
+ * rewriteBatchedStatements=true 연결 설정이면 드라이버가 한 배치를 여러 행 INSERT 한 문장으로 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppLaunchBuffer {
+
+    private static final String INSERT_SQL = "INSERT INTO app_launches (user_id, launch_time) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final LaunchHistogramCache launchHistogramCache;
+
+    private final ConcurrentLinkedQueue<PendingLaunch> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Value("${learnkit.app-launch.buffer-capacity:10000}")
+    private int capacity;
+
+    @Value("${learnkit.app-launch.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 실행 기록을 큐에 추가
+     *
+     * @return 큐가 가득 차서 넣지 못했으면 false (호출한 쪽에서 직접 저장해야 함)
+     */
+    public boolean offer(Long userId, LocalDateTime launchTime) {
+        int queued = size.incrementAndGet();
+        if (queued > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(new PendingLaunch(userId, launchTime));
+
+        // 한 배치만큼 쌓이면 주기를 기다리지 않고 바로 저장
+        if (queued % batchSize == 0) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+        return true;
+    }
+
+    /**
+     * 큐를 거치지 않고 즉시 저장 (큐가 가득 찼을 때 호출한 스레드가 직접 처리)
+     */
+    public void saveNow(Long userId, LocalDateTime launchTime) {
+        save(List.of(new PendingLaunch(userId, launchTime)));
+    }
+
+    /**
+     * 큐에 쌓인 실행 기록을 배치 단위로 저장
+     */
+    @Scheduled(fixedDelayString = "${learnkit.app-launch.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingLaunch> batch = drain();
+        while (!batch.isEmpty()) {
+            save(batch);
+            batch = drain();
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 실행 기록을 모두 저장
+     * 웹 서버가 요청 수신을 멈춘 뒤 호출되므로 이후 들어오는 기록은 없음
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private List<PendingLaunch> drain() {
+        List<PendingLaunch> batch = new ArrayList<>();
+        PendingLaunch pending;
+        while (batch.size() < batchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void save(List<PendingLaunch> batch) {
+        try {
+            insert(batch);
+        } catch (RuntimeException e) {
+            // 버퍼에 있는 동안 탈퇴한 사용자의 기록 때문에 실패했으면, 그 기록만 빼고 한 번 더 저장
+            Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(
+                    batch.stream().map(PendingLaunch::userId).collect(Collectors.toSet())));
+            List<PendingLaunch> retry = batch.stream()
+                    .filter(pending -> existingUserIds.contains(pending.userId()))
+                    .toList();
+            if (retry.size() == batch.size() || retry.isEmpty()) {
+                log.warn("앱 실행 기록 저장 실패: {}건 버림", batch.size(), e);
+                return;
+            }
+            log.warn("존재하지 않는 사용자의 앱 실행 기록 {}건 버림", batch.size() - retry.size());
+            try {
+                insert(retry);
+            } catch (RuntimeException retryFailure) {
+                log.warn("앱 실행 기록 저장 실패: {}건 버림", retry.size(), retryFailure);
+            }
+        }
+    }
+
+    // 한 트랜잭션으로 배치 INSERT, 커밋되면 시간대 분석 캐시에 반영
+    private void insert(List<PendingLaunch> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, pending) -> {
+                statement.setLong(1, pending.userId());
+                statement.setTimestamp(2, Timestamp.valueOf(pending.launchTime()));
+            });
+            launchHistogramCache.recordAfterCommit(batch.stream().collect(Collectors.groupingBy(
+                    PendingLaunch::userId, Collectors.mapping(PendingLaunch::launchTime, Collectors.toList()))));
+        });
+    }
+
+    private record PendingLaunch(Long userId, LocalDateTime launchTime) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.learnkit.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 앱 실행 기록 압축 작업
+ * 보관 기간이 지난 app_launches 원본을 시간대별 집계로 옮기고 원본은 묶음 단위로 삭제하여
+ * 원본 테이블 크기를 보관 기간만큼으로 유지함
+ * 시간대 분석은 최근 30일만 읽으므로 그보다 오래된 집계도 묶음 단위로 삭제함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppLaunchCompactionJob {
+
+    private final AppLaunchService appLaunchService;
+
+    @Value("${learnkit.app-launch.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${learnkit.app-launch.compaction-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 매일 새벽에 실행, 묶음마다 별도 트랜잭션으로 처리하여 긴 트랜잭션/락을 피함
+     */
+    @Scheduled(cron = "${learnkit.app-launch.compaction-cron:0 30 3 * * *}")
+    public void compact() {
+        LocalDateTime before = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+        int total = 0;
+        int compacted;
+        do {
+            compacted = appLaunchService.compactLaunchesBefore(before, chunkSize);
+            total += compacted;
+        } while (compacted == chunkSize);
+
+        if (total > 0) {
+            log.info("앱 실행 기록 압축 완료: {}건 (기준 시점 {})", total, before);
+        }
+
+        LocalDate windowStart = LocalDate.now().minusDays(LaunchHistogramCache.WINDOW_DAYS - 1);
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = appLaunchService.deleteHourlyCountsBefore(windowStart, chunkSize);
+            deleted += chunk;
+        } while (chunk == chunkSize);
+
+        if (deleted > 0) {
+            log.info("기간이 지난 시간대별 집계 삭제: {}건 ({} 이전)", deleted, windowStart);
+        }
+    }
+}
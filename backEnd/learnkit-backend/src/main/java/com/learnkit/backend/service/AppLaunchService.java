@@ -1,19 +1,18 @@
 package com.learnkit.backend.service;
 
-import com.learnkit.backend.domain.AppLaunch;
-import com.learnkit.backend.domain.User;
 import com.learnkit.backend.dto.AppLaunchDto;
 import com.learnkit.backend.exception.custom.UserNotFoundException;
+import com.learnkit.backend.repository.AppLaunchHourlyCountRepository;
 import com.learnkit.backend.repository.AppLaunchRepository;
 import com.learnkit.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 앱 실행 기록 및 사용 패턴 분석 비즈니스 로직
@@ -24,52 +23,59 @@ import java.util.stream.Collectors;
 public class AppLaunchService {
 
     private final AppLaunchRepository appLaunchRepository;
+    private final AppLaunchHourlyCountRepository appLaunchHourlyCountRepository;
     private final UserRepository userRepository;
+    private final AppLaunchBuffer appLaunchBuffer;
+    private final LaunchHistogramCache launchHistogramCache;
 
     /**
      * 앱 실행 시간 기록
-     * 사용자가 앱을 실행할 때마다 타임스탬프를 DB에 저장
+     * 사용자가 앱을 실행할 때마다 타임스탬프를 쓰기 버퍼에 넣고, 버퍼가 모아서 DB에 저장
      * 이 데이터는 사용 패턴 분석에 활용됨
+     * 존재하지 않는 사용자는 버퍼에 넣기 전에 거절함 (저장 시점에 실패하면 응답으로 알릴 수 없으므로)
      *
      * @param userId 사용자 ID
+     * @throws UserNotFoundException 사용자가 존재하지 않는 경우
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public void recordAppLaunch(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        LocalDateTime launchTime = LocalDateTime.now();
 
-        // AppLaunch 엔티티 생성 시 현재 시간이 자동으로 기록됨
-        AppLaunch appLaunch = new AppLaunch(user);
-        appLaunchRepository.save(appLaunch);
+        // 버퍼가 가득 찼으면 요청 스레드에서 직접 저장 (backpressure)
+        // 캐시된 시간대 분석에는 버퍼가 저장을 커밋한 뒤 반영됨
+        if (!appLaunchBuffer.offer(userId, launchTime)) {
+            appLaunchBuffer.saveNow(userId, launchTime);
+        }
     }
 
     /**
      * 주 사용 시간대 계산 (최근 30일 기준)
      * 최근 30일간의 앱 실행 패턴을 분석하여 가장 많이 사용하는 시간대를 찾음
      * 리마인더 발송 시간 추천에 활용 가능
+     * 캐시된 시간대별 집계를 사용하므로 캐시 적중 시 DB를 조회하지 않음
      *
      * @param userId 사용자 ID
      * @return 피크 시간대 정보 및 추천 알림 시간
      */
+    @Transactional(Transactional.TxType.SUPPORTS)
     public AppLaunchDto.PeakHoursResponse calculatePeakHours(Long userId) {
-        // 최근 30일간의 앱 실행 기록 조회
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30); // 오늘 날짜에서 30일 뺀 결과
-        List<AppLaunch> recentLaunches = appLaunchRepository.findRecentLaunches(userId, thirtyDaysAgo);
+        // 최근 30일간의 시간대별 실행 횟수 (index = 시, 0~23)
+        int[] hourCounts = launchHistogramCache.hourTotals(userId, LocalDate.now());
 
-        // 시간대별 실행 횟수 집계 (0~23시)
-        // hourCounts: { 9: 5, 14: 3, 20: 10}
-        Map<Integer, Long> hourCounts = recentLaunches.stream()
-                .collect(Collectors.groupingBy( // 괄호안 기준으로 그룹으로 묶고 결과를 하나로 모음
-                        launch -> launch.getLaunchTime().getHour(), // launch의 시간을 기준으로 분류
-                        Collectors.counting() // 데이터의 갯수를 셈
-                ));
+        // 가장 많이 사용하는 시간대 찾기 (동률이면 이른 시간대)
+        int peakHour = 19;  // 기본값: 오후 7시 (데이터가 없을 경우)
+        int maxCount = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            if (hourCounts[hour] > maxCount) {
+                maxCount = hourCounts[hour];
+                peakHour = hour;
+            }
+        }
 
-        // 가장 많이 사용하는 시간대 찾기
-        int peakHour = hourCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue()) // 횟수(Value)를 기준으로 크기 비교
-                .map(Map.Entry::getKey) // 몇 시인지(Key)로 객체 모양을 바꾼다.
-                .orElse(19);  // 기본값: 오후 7시 (데이터가 없을 경우)
-
-        int launchCount = hourCounts.getOrDefault(peakHour, 0L).intValue(); // 가장 많이 접속한 시간대 찾고 횟수(Value)를 가져옴
+        int launchCount = maxCount; // 가장 많이 접속한 시간대의 실행 횟수
 
         // 추천 알림 시간: 피크 시간 1시간 전
         // 예: 피크가 20시면 19시에 알림 발송
@@ -80,4 +86,36 @@ public class AppLaunchService {
 
         return new AppLaunchDto.PeakHoursResponse(peakHour, launchCount, suggestedTime);
     }
-}
\ No newline at end of file
+
+    /**
+     * 보관 기간이 지난 실행 기록 압축 (한 묶음)
+     * 기준 시점 이전의 원본 기록을 오래된 순으로 최대 chunkSize건 골라
+     * (사용자, 날짜, 시) 단위 집계에 한 문장으로 누적한 뒤 원본을 삭제함
+     * 집계 누적과 원본 삭제가 한 트랜잭션이므로 중복 집계되지 않음
+     *
+     * @param before 보관 기준 시점 (이 시점 이전 기록이 압축 대상)
+     * @param chunkSize 한 번에 처리할 최대 건수
+     * @return 압축한 원본 기록 수 (0이면 더 이상 대상 없음)
+     */
+    public int compactLaunchesBefore(LocalDateTime before, int chunkSize) {
+        List<Integer> launchIds = appLaunchRepository.findIdsLaunchedBefore(before, PageRequest.of(0, chunkSize));
+        if (launchIds.isEmpty()) {
+            return 0;
+        }
+
+        appLaunchHourlyCountRepository.addLaunches(launchIds);
+        appLaunchRepository.deleteAllByIdInBatch(launchIds);
+        return launchIds.size();
+    }
+
+    /**
+     * 시간대 분석 기간이 지난 집계 삭제 (한 묶음)
+     *
+     * @param before 이 날짜 이전의 집계가 삭제 대상
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제한 집계 수 (chunkSize보다 작으면 더 이상 대상 없음)
+     */
+    public int deleteHourlyCountsBefore(LocalDate before, int chunkSize) {
+        return appLaunchHourlyCountRepository.deleteLaunchedBefore(before, chunkSize);
+    }
+}
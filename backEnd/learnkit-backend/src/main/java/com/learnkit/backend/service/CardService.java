@@ -11,6 +11,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -112,25 +113,23 @@ public class CardService {
      * @throws CardNotFoundException 카드를 찾을 수 없는 경우
      */
     public CardDto.Response reviewCard(Long cardId, CardDto.ReviewRequest requestDto) {
-        Card card = cardRepository.findById(cardId)
+        // 단어장 빈도 비율과 카드 수만 조회 (카드/단어장 엔티티를 불러와 수정하지 않음)
+        CardRepository.ReviewContext context = cardRepository.findReviewContext(cardId)
                 .orElseThrow(() -> new CardNotFoundException(cardId));
 
-        WordBook wordBook = card.getWordBook();
-
         // interval 계산
-        int totalCards = (int) cardRepository.countByWordBookId(wordBook.getId());
-        long baseScore = wordBook.calculateBaseScore(totalCards);
-
-        long interval = switch (requestDto.getDifficulty()) {
-            case HARD -> wordBook.calculateHardInterval(baseScore);
-            case NORMAL -> wordBook.calculateNormalInterval(baseScore);
-            case EASY -> wordBook.calculateEasyInterval(baseScore);
+        int frequencyRatio = switch (requestDto.getDifficulty()) {
+            case HARD -> context.getHardFrequencyRatio();
+            case NORMAL -> context.getNormalFrequencyRatio();
+            case EASY -> context.getEasyFrequencyRatio();
         };
+        long interval = WordBook.calculateInterval(context.getTotalCards(), frequencyRatio);
 
-        // 복습 처리 (점수 누적)
-        card.reviewWithDifficulty(requestDto.getDifficulty(), interval);
+        // 복습 처리 (점수 누적) - 한 문장으로 DB에서 증가
+        cardRepository.applyReview(cardId, requestDto.getDifficulty(), interval, LocalDateTime.now());
 
-        // Dirty Checking으로 자동 저장
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new CardNotFoundException(cardId));
         return new CardDto.Response(card);
     }
 
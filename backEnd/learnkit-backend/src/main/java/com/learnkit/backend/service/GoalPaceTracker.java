@@ -0,0 +1,74 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalPace;
+import com.learnkit.backend.repository.GoalPaceRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 목표 학습 속도 기록/계산
+ * 세션 종료 시 goal_paces에 달성량을 지수 감쇠 누적하고, 조회 시 누적값만으로 최근 일일 달성 속도를 계산함
+ * 시간 상수(τ)일 전의 달성량은 가중치가 1/e로 줄어듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoalPaceTracker {
+
+    private static final double SECONDS_PER_DAY = 86400.0;
+
+    private final GoalPaceRepository goalPaceRepository;
+
+    @Value("${learnkit.goal-pace.time-constant-days:14}")
+    private double timeConstantDays;
+
+    @Value("${learnkit.goal-pace.minutes-smoothing:0.3}")
+    private double minutesSmoothing;
+
+    /**
+     * goal_paces 도입 전의 세션 기록으로 초기화 (테이블이 비어 있을 때만 세션 기록을 한 번 집계)
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (goalPaceRepository.count() > 0) {
+            return;
+        }
+        int rows = goalPaceRepository.backfillFromSessions(timeConstantDays * SECONDS_PER_DAY, LocalDateTime.now());
+        if (rows > 0) {
+            log.info("목표 학습 속도 초기화 완료: {}건", rows);
+        }
+    }
+
+    /**
+     * 종료된 세션 하나를 목표 학습 속도에 반영 (달성량이 없으면 무시)
+     */
+    public void recordSession(Integer goalId, int achievedAmount, int durationMinutes, LocalDateTime studiedAt) {
+        if (achievedAmount <= 0) {
+            return;
+        }
+        goalPaceRepository.recordSession(goalId, achievedAmount, durationMinutes, studiedAt,
+                timeConstantDays * SECONDS_PER_DAY, minutesSmoothing);
+    }
+
+    /**
+     * now 기준 지수 가중 일일 달성 속도 (단위/일)
+     * 누적값을 now까지 더 감쇠시킨 뒤, 첫 학습 이후 기간 동안 매일 같은 양을 달성했을 때의 가중치 합
+     * τ(1 - e^(-기간/τ))로 나눠 기록이 짧은 목표의 과소 추정을 보정함 (기간은 최소 1일)
+     */
+    public double dailyRate(GoalPace pace, LocalDateTime now) {
+        double sinceLastDays = Math.max(0, Duration.between(pace.getLastStudiedAt(), now).getSeconds()) / SECONDS_PER_DAY;
+        double decayed = pace.getDecayedAmount() * Math.exp(-sinceLastDays / timeConstantDays);
+
+        double ageDays = Math.max(1.0, Duration.between(pace.getFirstStudiedAt(), now).getSeconds() / SECONDS_PER_DAY);
+        return decayed / (timeConstantDays * (1 - Math.exp(-ageDays / timeConstantDays)));
+    }
+}
@@ -1,11 +1,13 @@
 package com.learnkit.backend.service;
 
 import com.learnkit.backend.domain.Goal;
+import com.learnkit.backend.domain.GoalPace;
 import com.learnkit.backend.domain.User;
 import com.learnkit.backend.domain.WeeklyGoalBaseline;
 import com.learnkit.backend.dto.GoalDto;
 import com.learnkit.backend.exception.custom.GoalNotFoundException;
 import com.learnkit.backend.exception.custom.UserNotFoundException;
+import com.learnkit.backend.repository.GoalPaceRepository;
 import com.learnkit.backend.repository.GoalRepository;
 import com.learnkit.backend.repository.UserRepository;
 import com.learnkit.backend.repository.WeeklyGoalBaselineRepository;
@@ -14,9 +16,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Goal 비즈니스 로직을 담당하는 Service
@@ -29,6 +35,10 @@ public class GoalService {
     private final GoalRepository goalRepository;
     private final UserRepository userRepository;
     private final WeeklyGoalBaselineRepository weeklyGoalBaselineRepository;
+    private final GoalPaceRepository goalPaceRepository;
+    private final GoalPaceTracker goalPaceTracker;
+
+    private static final long MAX_FORECAST_DAYS = 3650; // 이보다 오래 걸리면 완료 예상일을 내지 않음
 
     /**
      * 새로운 목표를 생성
@@ -130,11 +140,14 @@ public class GoalService {
      * @return 업데이트된 목표 정보
      */
     public GoalDto.Response addProgress(Integer goalId, GoalDto.AddProgressRequest requestDto) {
+        // 읽고-더하고-쓰기 대신 DB에서 한 번에 증가 (동시 요청 시 누락 방지)
+        int updated = goalRepository.addProgress(goalId, requestDto.getAmount(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new GoalNotFoundException(goalId);
+        }
+
         Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException(goalId));
-
-        goal.addProgress(requestDto.getAmount());
-
         return new GoalDto.Response(goal);
     }
 
@@ -146,7 +159,79 @@ public class GoalService {
     public void deleteGoal(Integer goalId) {
         Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException(goalId));
+        goalPaceRepository.deleteById(goalId);
         goalRepository.delete(goal);
     }
 
+    /**
+     * 목표 달성 예측 (최근 학습 속도로 마감 안에 끝나는지)
+     *
+     * @param goalId 목표 ID
+     * @return 예측 정보
+     */
+    public GoalDto.Forecast forecastGoal(Integer goalId) {
+        Goal goal = goalRepository.findById(goalId)
+                .orElseThrow(() -> new GoalNotFoundException(goalId));
+        GoalPace pace = goalPaceRepository.findById(goalId).orElse(null);
+        return forecast(goal, pace, LocalDateTime.now());
+    }
+
+    /**
+     * 사용자의 모든 목표 달성 예측 (목표 조회 1회 + 학습 속도 조회 1회)
+     *
+     * @param userId 사용자 ID
+     * @return 목표별 예측 정보
+     */
+    public List<GoalDto.Forecast> forecastGoalsByUserId(Long userId) {
+        List<Goal> goals = goalRepository.findByUserId(userId);
+        Map<Integer, GoalPace> paces = goalPaceRepository.findAllById(goals.stream().map(Goal::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(GoalPace::getGoalId, pace -> pace));
+
+        LocalDateTime now = LocalDateTime.now();
+        return goals.stream()
+                .map(goal -> forecast(goal, paces.get(goal.getId()), now))
+                .toList();
+    }
+
+    // 남은 양 / 최근 일일 달성 속도로 완료 예상일을 구하고 마감과 비교 (오늘부터 매일 같은 속도로 달성한다고 가정)
+    private GoalDto.Forecast forecast(Goal goal, GoalPace pace, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        LocalDate endDate = goal.getEndDate();
+        int remaining = Math.max(goal.getTotalTargetAmount() - goal.getCurrentProgress(), 0);
+        double dailyRate = pace != null ? goalPaceTracker.dailyRate(pace, now) : 0;
+
+        if (goal.isCompleted() || remaining == 0) {
+            LocalDate completedDate = goal.getCompletedAt() != null ? goal.getCompletedAt().toLocalDate() : today;
+            return new GoalDto.Forecast(goal, 0, dailyRate, null, completedDate,
+                    endDate == null || !completedDate.isAfter(endDate));
+        }
+
+        Double requiredDailyRate = null;
+        if (endDate != null && !endDate.isBefore(today)) {
+            requiredDailyRate = (double) remaining / (ChronoUnit.DAYS.between(today, endDate) + 1);
+        }
+
+        LocalDate projectedDate = null;
+        if (dailyRate > 0) {
+            double daysNeeded = Math.ceil(remaining / dailyRate);
+            if (daysNeeded <= MAX_FORECAST_DAYS) {
+                projectedDate = today.plusDays((long) daysNeeded - 1);
+            }
+        }
+
+        Boolean onTrack = null;
+        if (endDate != null) {
+            if (endDate.isBefore(today)) {
+                onTrack = false; // 마감이 지났는데 완료하지 못함
+            } else if (projectedDate != null) {
+                onTrack = !projectedDate.isAfter(endDate);
+            } else if (dailyRate > 0) {
+                onTrack = false; // 속도가 너무 느려 예상일을 낼 수 없음
+            }
+        }
+
+        return new GoalDto.Forecast(goal, remaining, dailyRate, requiredDailyRate, projectedDate, onTrack);
+    }
+
 }
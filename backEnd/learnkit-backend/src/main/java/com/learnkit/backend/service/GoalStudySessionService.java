@@ -12,6 +12,9 @@ import com.learnkit.backend.repository.GoalStudySessionRepository;
 import com.learnkit.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -25,6 +28,11 @@ public class GoalStudySessionService {
     private final GoalStudySessionRepository goalStudySessionRepository;
     private final UserRepository userRepository;
     private final GoalRepository goalRepository;
+    private final StudyActivityService studyActivityService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final PomoCountBuffer pomoCountBuffer;
+    private final PomodoroTimerService pomodoroTimerService;
+    private final GoalPaceTracker goalPaceTracker;
 
     /**
      * 학습 세션 시작
@@ -33,9 +41,9 @@ public class GoalStudySessionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        // 이미 진행 중인 세션 있는지 확인
-        List<GoalStudySession> activeSessions = goalStudySessionRepository.findAllByUserIdAndEndedAtIsNull(userId);
-        if (!activeSessions.isEmpty()) {
+        // 이미 진행 중인 세션 있는지 확인 (메모리 레지스트리, 등록된 세션이 있을 때만 DB 재확인)
+        if (!activeSessionRegistry.reserve(ActiveSessionRegistry.Kind.GOAL, userId,
+                goalStudySessionRepository::existsByIdAndEndedAtIsNull)) {
             throw new IllegalStateException("이미 진행 중인 학습 세션이 있습니다.");
         }
 
@@ -47,7 +55,17 @@ public class GoalStudySessionService {
         }
 
         GoalStudySession session = new GoalStudySession(user, goal);
-        GoalStudySession savedSession = goalStudySessionRepository.save(session);
+        GoalStudySession savedSession;
+        try {
+            // 진행 중 세션 유니크 제약 위반을 여기서 바로 확인하기 위해 즉시 flush
+            savedSession = goalStudySessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException e) {
+            if (ActiveSessionRegistry.isActiveSessionConflict(e, GoalStudySession.ACTIVE_USER_CONSTRAINT)) {
+                throw new IllegalStateException("이미 진행 중인 학습 세션이 있습니다.");
+            }
+            throw e;
+        }
+        activeSessionRegistry.activate(ActiveSessionRegistry.Kind.GOAL, userId, savedSession.getId());
 
         return new GoalStudySessionDto.Response(savedSession);
     }
@@ -56,7 +74,7 @@ public class GoalStudySessionService {
      * 학습 세션 종료
      */
     public GoalStudySessionDto.Response endSession(Integer sessionId, GoalStudySessionDto.EndRequest requestDto) {
-        GoalStudySession session = goalStudySessionRepository.findById(sessionId)
+        GoalStudySession session = goalStudySessionRepository.findForUpdate(sessionId)
                 .orElseThrow(() -> new GoalStudySessionNotFoundException(sessionId));
 
         if (!session.isInProgress()) {
@@ -69,10 +87,19 @@ public class GoalStudySessionService {
                 requestDto.getNote());
 
         // Goal 진행도 업데이트 (goal이 있고, 달성량이 0보다 크면)
+        // 목표는 지연 로딩 상태로 두고 DB에서 원자적으로 증가시키므로, 응답 생성 시 갱신된 값이 조회됨
         if (session.getGoal() != null && requestDto.getAchievedAmount() > 0) {
-            session.getGoal().addProgress(requestDto.getAchievedAmount());
+            goalRepository.addProgress(session.getGoal().getId(), requestDto.getAchievedAmount(), LocalDateTime.now());
+            goalPaceTracker.recordSession(session.getGoal().getId(), session.getAchievedAmount(),
+                    session.getDurationMinutes(), session.getEndedAt());
         }
 
+        studyActivityService.addGoalSession(session);
+        // 레지스트리/버퍼/타이머는 모두 커밋 후 반영됨
+        activeSessionRegistry.release(ActiveSessionRegistry.Kind.GOAL, session.getUser().getId(), sessionId);
+        pomoCountBuffer.discard(sessionId); // 종료 요청의 포모도로 카운트가 최종값
+        AfterCommit.run(() -> pomodoroTimerService.stop(sessionId));
+
         return new GoalStudySessionDto.Response(session);
     }
 
@@ -90,18 +117,16 @@ public class GoalStudySessionService {
      * 진행 중인 세션 조회
      */
     public GoalStudySessionDto.Response findActiveSession(Long userId) {
-        List<GoalStudySession> activeSessions = goalStudySessionRepository.findAllByUserIdAndEndedAtIsNull(userId);
-
-        if (activeSessions.isEmpty()) {
+        Integer sessionId = activeSessionRegistry.activeSessionId(ActiveSessionRegistry.Kind.GOAL, userId);
+        if (sessionId == null) {
             throw new GoalStudySessionNotFoundException("진행 중인 세션이 없습니다.");
         }
 
-        // 여러 개가 있다면 가장 최근에 시작한 세션 반환
-        GoalStudySession session = activeSessions.stream()
-                .max((s1, s2) -> s1.getStartedAt().compareTo(s2.getStartedAt()))
+        GoalStudySession session = goalStudySessionRepository.findWithDetailsById(sessionId)
+                .filter(GoalStudySession::isInProgress)
                 .orElseThrow(() -> new GoalStudySessionNotFoundException("진행 중인 세션이 없습니다."));
-        
-        return new GoalStudySessionDto.Response(session);
+
+        return toResponse(session);
     }
 
     /**
@@ -110,32 +135,97 @@ public class GoalStudySessionService {
     public GoalStudySessionDto.Response findSessionById(Integer sessionId) {
         GoalStudySession session = goalStudySessionRepository.findById(sessionId)
                 .orElseThrow(() -> new GoalStudySessionNotFoundException(sessionId));
-        return new GoalStudySessionDto.Response(session);
+        return toResponse(session);
+    }
+
+    // 버퍼에 아직 DB에 반영되지 않은 포모도로 카운트가 있으면 그 값으로 응답
+    private GoalStudySessionDto.Response toResponse(GoalStudySession session) {
+        Integer pendingPomoCount = session.isInProgress() ? pomoCountBuffer.pending(session.getId()) : null;
+        return pendingPomoCount != null
+                ? new GoalStudySessionDto.Response(session, pendingPomoCount)
+                : new GoalStudySessionDto.Response(session);
     }
 
     /**
      * 세션 삭제
      */
     public void deleteSession(Integer sessionId) {
-        GoalStudySession session = goalStudySessionRepository.findById(sessionId)
+        GoalStudySession session = goalStudySessionRepository.findForUpdate(sessionId)
                 .orElseThrow(() -> new GoalStudySessionNotFoundException(sessionId));
+        studyActivityService.removeGoalSession(session);
+        if (session.isInProgress()) {
+            activeSessionRegistry.release(ActiveSessionRegistry.Kind.GOAL, session.getUser().getId(), sessionId);
+            pomoCountBuffer.discard(sessionId);
+            AfterCommit.run(() -> pomodoroTimerService.stop(sessionId));
+        }
         goalStudySessionRepository.delete(session);
     }
 
+    /**
+     * 오래 방치된 진행 중 세션 한 묶음 종료 (방치 세션 정리 작업용, 묶음마다 별도 트랜잭션)
+     *
+     * @param cutoff 시작/마지막 수정이 이 시각 이전인 세션만 종료
+     * @param maxMinutes 종료 세션의 최대 학습 시간 (분)
+     * @return 이번 묶음에서 종료한 세션 수 (batchSize보다 작으면 남은 세션 없음)
+     */
+    public int closeStaleSessions(LocalDateTime cutoff, int maxMinutes, int batchSize) {
+        List<GoalStudySessionRepository.ActiveSession> stale =
+                goalStudySessionRepository.lockStaleSessions(cutoff, batchSize);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> sessionIds = stale.stream()
+                .map(GoalStudySessionRepository.ActiveSession::getSessionId)
+                .toList();
+        goalStudySessionRepository.closeStaleSessions(
+                sessionIds, maxMinutes, GoalStudySession.POMODORO_MINUTES, LocalDateTime.now());
+
+        // 일괄 종료된 값으로 다시 읽어 일일 요약/달력에 반영
+        for (GoalStudySession session : goalStudySessionRepository.findAllById(sessionIds)) {
+            studyActivityService.addGoalSession(session);
+        }
+        for (GoalStudySessionRepository.ActiveSession closed : stale) {
+            Integer sessionId = closed.getSessionId();
+            activeSessionRegistry.release(ActiveSessionRegistry.Kind.GOAL, closed.getUserId(), sessionId);
+            pomoCountBuffer.discard(sessionId);
+            AfterCommit.run(() -> pomodoroTimerService.stop(sessionId));
+        }
+        return stale.size();
+    }
+
+    /**
+     * 사용자별 가장 최근 세션만 남기고 나머지 진행 중 세션 종료 (진행 중 세션 유니크 제약을 만들기 전 정리용)
+     * 방치 세션과 같은 방식으로 학습 시간을 제한하여 종료하고 일일 요약/달력에 반영
+     *
+     * @return 종료한 세션 수
+     */
+    public int closeDuplicateActiveSessions(int maxMinutes) {
+        List<Integer> sessionIds = goalStudySessionRepository.findSupersededActiveSessionIds();
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+
+        goalStudySessionRepository.closeStaleSessions(
+                sessionIds, maxMinutes, GoalStudySession.POMODORO_MINUTES, LocalDateTime.now());
+        for (GoalStudySession session : goalStudySessionRepository.findAllById(sessionIds)) {
+            studyActivityService.addGoalSession(session);
+        }
+        return sessionIds.size();
+    }
+
     /**
      * 학습 통계 조회 (특정 기간)
      */
     public GoalStudySessionDto.StatisticsResponse getStatistics(Long userId, LocalDateTime start, LocalDateTime end) {
-        List<GoalStudySession> sessions = goalStudySessionRepository.findByUserIdAndStartedAtBetween(userId, start,
-                end);
-
-        int totalSessions = sessions.size();
-        int totalMinutes = sessions.stream().mapToInt(GoalStudySession::getDurationMinutes).sum();
-        int totalPomoCount = sessions.stream().mapToInt(GoalStudySession::getPomoCount).sum();
-        int totalAchievedAmount = sessions.stream().mapToInt(GoalStudySession::getAchievedAmount).sum();
+        GoalStudySessionRepository.SessionTotals totals =
+                goalStudySessionRepository.sumByUserIdAndStartedAtBetween(userId, start, end);
 
-        return new GoalStudySessionDto.StatisticsResponse(totalSessions, totalMinutes, totalPomoCount,
-                totalAchievedAmount);
+        return new GoalStudySessionDto.StatisticsResponse(
+                totals.getTotalSessions().intValue(),
+                totals.getTotalMinutes().intValue(),
+                totals.getTotalPomoCount().intValue(),
+                totals.getTotalAchievedAmount().intValue());
     }
 
     /**
@@ -152,10 +242,71 @@ public class GoalStudySessionService {
      * 진행 중인 세션의 포모도로 카운트 실시간 업데이트
      */
     public GoalStudySessionDto.Response updatePomoCount(Integer sessionId, int pomoCount) {
-        GoalStudySession session = goalStudySessionRepository.findById(sessionId)
+        GoalStudySession session = goalStudySessionRepository.findWithDetailsById(sessionId)
                 .orElseThrow(() -> new GoalStudySessionNotFoundException(sessionId));
 
-        session.updatePomoCount(pomoCount);
-        return new GoalStudySessionDto.Response(session);
+        if (!session.isInProgress()) {
+            throw new IllegalStateException("종료된 세션은 업데이트할 수 없습니다.");
+        }
+
+        // 매 요청마다 UPDATE 하지 않고 버퍼에 최신 값만 보관 (주기적으로 DB 반영)
+        pomoCountBuffer.put(sessionId, pomoCount);
+        return new GoalStudySessionDto.Response(session, pomoCount);
+    }
+
+    /**
+     * 특정 사용자의 세션 목록 한 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public GoalStudySessionDto.PageResponse findSessionPageByUserId(Long userId, String cursor, int size) {
+        SessionCursor.checkPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1); // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+
+        List<GoalStudySession> sessions;
+        if (cursor == null || cursor.isBlank()) {
+            sessions = goalStudySessionRepository.findPageByUserId(userId, limit);
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            sessions = goalStudySessionRepository.findPageByUserIdAfter(
+                    userId, after.startedAt(), after.idBoundFor(SessionCursor.GOAL), limit);
+        }
+        return toPage(sessions, size);
+    }
+
+    /**
+     * 특정 목표의 세션 목록 한 페이지 조회 (최신순)
+     */
+    public GoalStudySessionDto.PageResponse findSessionPageByGoalId(Integer goalId, String cursor, int size) {
+        SessionCursor.checkPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<GoalStudySession> sessions;
+        if (cursor == null || cursor.isBlank()) {
+            sessions = goalStudySessionRepository.findPageByGoalId(goalId, limit);
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            sessions = goalStudySessionRepository.findPageByGoalIdAfter(
+                    goalId, after.startedAt(), after.idBoundFor(SessionCursor.GOAL), limit);
+        }
+        return toPage(sessions, size);
+    }
+
+    // (size + 1)건 조회 결과를 한 페이지와 다음 커서로 변환
+    private GoalStudySessionDto.PageResponse toPage(List<GoalStudySession> sessions, int size) {
+        boolean hasMore = sessions.size() > size;
+        List<GoalStudySession> page = hasMore ? sessions.subList(0, size) : sessions;
+
+        String nextCursor = null;
+        if (hasMore) {
+            GoalStudySession last = page.get(size - 1);
+            nextCursor = new SessionCursor(last.getStartedAt(), SessionCursor.GOAL, last.getId()).encode();
+        }
+
+        List<GoalStudySessionDto.Response> items = page.stream()
+                .map(GoalStudySessionDto.Response::new)
+                .toList();
+        return new GoalStudySessionDto.PageResponse(items, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.learnkit.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 타이밍 휠 (Hashed Timing Wheel)
+ * 일정 간격(tick)으로 도는 원형 버킷 배열에 만료 작업을 나눠 담아, 등록/취소는 O(1), 만료 처리는 tick당 한 버킷만 확인함
+ * 수십만 개의 타이머도 스레드 하나로 처리할 수 있으며, 만료 시각은 tick 단위로 근사됨
+ * 만료된 작업은 휠 스레드에서 실행되므로 짧게 끝나는 작업만 등록해야 함
+ */
+@Slf4j
+final class HashedTimingWheel {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> wheel;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private long tick; // 휠 스레드에서만 접근
+
+    /**
+     * @param name 휠 스레드 이름
+     * @param tickMillis tick 간격 (ms)
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     */
+    HashedTimingWheel(String name, long tickMillis, int wheelSize) {
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * delayMillis 후에 task 실행 예약
+     */
+    Timeout schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                return;
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    // 다음 tick 시각까지 대기
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    // 새로 예약된 작업을 만료 tick에 해당하는 버킷으로 옮김 (남은 바퀴 수 계산)
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long expireTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (expireTick - tick) / wheel.size();
+            long targetTick = Math.max(expireTick, tick); // 이미 지난 작업은 이번 tick에 실행
+            wheel.get((int) (targetTick & mask)).add(timeout);
+        }
+    }
+
+    // 현재 버킷에서 남은 바퀴가 없는 작업 실행, 나머지는 한 바퀴 차감
+    private void expireTimeouts(List<Timeout> bucket) {
+        int kept = 0;
+        for (Timeout timeout : bucket) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0) {
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.warn("타이머 작업 실행 실패", e);
+                }
+                continue;
+            }
+            timeout.remainingRounds--;
+            bucket.set(kept++, timeout);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * 예약된 작업 핸들 (취소용)
+     */
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long remainingRounds; // 휠 스레드에서만 접근
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.User;
+import com.learnkit.backend.dto.AppLaunchDto;
+import com.learnkit.backend.dto.CardDto;
+import com.learnkit.backend.dto.GoalDto;
+import com.learnkit.backend.dto.GoalStudySessionDto;
+import com.learnkit.backend.dto.HomeDto;
+import com.learnkit.backend.dto.ScheduleDto;
+import com.learnkit.backend.dto.UserDto;
+import com.learnkit.backend.dto.WeeklyStatsDto;
+import com.learnkit.backend.dto.WordBookDto;
+import com.learnkit.backend.dto.WordBookStudySessionDto;
+import com.learnkit.backend.exception.custom.GoalStudySessionNotFoundException;
+import com.learnkit.backend.exception.custom.UserNotFoundException;
+import com.learnkit.backend.exception.custom.WordBookStudySessionNotFoundException;
+import com.learnkit.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 데이터 조회 서비스
+ * 사용자를 한 번 확인한 뒤 서로 독립적인 조회(단어장, 카드 통계, 목표, 일정, 진행 중 세션, 주간 통계, 피크 시간)를
+ * 전용 스레드 풀에서 동시에 실행하여, 가장 느린 조회 하나만큼의 시간에 응답함
+ * 각 조회는 해당 서비스의 트랜잭션에서 실행되고, 이 서비스는 결과를 기다리는 동안 트랜잭션을 잡지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class HomeService {
+
+    private final UserRepository userRepository;
+    private final WordBookService wordBookService;
+    private final CardService cardService;
+    private final GoalService goalService;
+    private final ScheduleService scheduleService;
+    private final GoalStudySessionService goalStudySessionService;
+    private final WordBookStudySessionService wordBookStudySessionService;
+    private final WeeklyStatsService weeklyStatsService;
+    private final AppLaunchService appLaunchService;
+
+    @Value("${learnkit.home.loader-threads:8}")
+    private int loaderThreads;
+
+    @Value("${learnkit.home.loader-queue-capacity:256}")
+    private int loaderQueueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    // 크기가 정해진 풀과 큐, 가득 차면 요청 스레드가 직접 실행 (동시 요청이 몰리면 순차 조회로 물러남)
+    @PostConstruct
+    public void startExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(loaderThreads, loaderThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(loaderQueueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "home-loader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * 홈 화면 데이터 조회
+     *
+     * @param userId 사용자 ID
+     * @param from 일정 조회 시작 시각 (포함)
+     * @param to 일정 조회 종료 시각 (미포함)
+     */
+    public HomeDto.Response getHome(Long userId, LocalDateTime from, LocalDateTime to) {
+        // 사용자 확인은 한 번만 (없으면 나머지 조회를 시작하지 않음)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        CompletableFuture<List<WordBookDto.Response>> wordBooks =
+                load(() -> wordBookService.findWordBooksByUserId(userId));
+        CompletableFuture<CardDto.StatisticsResponse> cardStatistics =
+                load(() -> cardService.getCardStatisticsByUserId(userId));
+        CompletableFuture<List<GoalDto.Response>> activeGoals =
+                load(() -> goalService.findActiveGoalsByUserId(userId));
+        CompletableFuture<List<ScheduleDto.Response>> schedules =
+                load(() -> scheduleService.findSchedulesInRange(userId, from, to));
+        CompletableFuture<GoalStudySessionDto.Response> activeGoalSession =
+                load(() -> findActiveGoalSession(userId));
+        CompletableFuture<WordBookStudySessionDto.Response> activeWordBookSession =
+                load(() -> findActiveWordBookSession(userId));
+        CompletableFuture<WeeklyStatsDto.Response> weeklyStats =
+                load(() -> weeklyStatsService.getWeeklyStats(userId));
+        CompletableFuture<AppLaunchDto.PeakHoursResponse> peakHours =
+                load(() -> appLaunchService.calculatePeakHours(userId));
+
+        try {
+            return new HomeDto.Response(new UserDto.Response(user), wordBooks.join(), cardStatistics.join(),
+                    activeGoals.join(), schedules.join(), activeGoalSession.join(), activeWordBookSession.join(),
+                    weeklyStats.join(), peakHours.join());
+        } catch (CompletionException e) {
+            // 조회 중 발생한 예외를 그대로 던져 GlobalExceptionHandler가 처리하도록 함
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    private GoalStudySessionDto.Response findActiveGoalSession(Long userId) {
+        try {
+            return goalStudySessionService.findActiveSession(userId);
+        } catch (GoalStudySessionNotFoundException e) {
+            return null;
+        }
+    }
+
+    private WordBookStudySessionDto.Response findActiveWordBookSession(Long userId) {
+        try {
+            return wordBookStudySessionService.findActiveSession(userId);
+        } catch (WordBookStudySessionNotFoundException e) {
+            return null;
+        }
+    }
+}
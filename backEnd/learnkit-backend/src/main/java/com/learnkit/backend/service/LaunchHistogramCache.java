@@ -0,0 +1,193 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.AppLaunchHourlyCount;
+import com.learnkit.backend.repository.AppLaunchHourlyCountRepository;
+import com.learnkit.backend.repository.AppLaunchRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 30일 시간대별 앱 실행 횟수 캐시
+ * 30일 x 24시간 카운터를 int 배열 링 버퍼로 보관하여 실행 기록은 O(1), 조회는 24칸 스캔으로 처리
+ * 캐시에 없는 사용자는 조회 시 압축 집계와 app_launches 집계로 한 번 재구성함
+ * 링 버퍼 자체는 따로 저장하지 않음: 같은 내용이 두 테이블에 이미 있어 (원본 보관 기간 + 시간대별 집계)
+ * 제거/재시작 후의 비용은 사용자당 첫 조회 때의 인덱스 범위 집계 두 번(최대 30 x 24행)뿐이고, 별도 저장본을 두면 DB와 어긋날 수 있음
+ * 두 테이블은 한 읽기 전용 트랜잭션(같은 스냅숏)에서 읽으므로, 그 사이 압축이 커밋되어도 옮겨진 기록이 빠지거나 두 번 세어지지 않음
+ * 실행 기록은 저장 트랜잭션이 커밋된 뒤에 더하고, 재구성하는 동안 기록이 저장 중이거나 더해졌으면 재구성 결과를 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class LaunchHistogramCache {
+
+    static final int WINDOW_DAYS = 30;
+
+    private final AppLaunchRepository appLaunchRepository;
+    private final AppLaunchHourlyCountRepository appLaunchHourlyCountRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<Long, LaunchHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> generations = new ConcurrentHashMap<>(); // 기록 저장 시작/반영 횟수
+    private final ConcurrentHashMap<Long, Integer> pendingSaves = new ConcurrentHashMap<>(); // 저장 중인 묶음 수
+
+    @Value("${learnkit.app-launch.histogram-cache-size:10000}")
+    private int maxCachedUsers;
+
+    private TransactionTemplate snapshotTemplate; // 재구성용 읽기 전용 트랜잭션 (REPEATABLE READ 스냅숏)
+
+    @PostConstruct
+    void init() {
+        snapshotTemplate = new TransactionTemplate(transactionManager);
+        snapshotTemplate.setReadOnly(true);
+        snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 현재 트랜잭션에서 저장하는 실행 기록 반영 (커밋되면 캐시에 더하고, 롤백되면 버림)
+     * 캐시에 없는 사용자는 다음 조회 때 DB에서 재구성되므로 더하지 않음
+     * 커밋 ~ 반영 사이에 재구성하면 이 기록이 DB 집계에 이미 들어 있으므로, 반영이 끝날 때까지 재구성 결과를 캐시하지 않음
+     *
+     * @param launchTimesByUser 사용자별 실행 시간 목록
+     */
+    public void recordAfterCommit(Map<Long, List<LocalDateTime>> launchTimesByUser) {
+        for (Long userId : launchTimesByUser.keySet()) {
+            pendingSaves.merge(userId, 1, Integer::sum);
+            generations.merge(userId, 1L, Long::sum);
+        }
+        AfterCommit.onCompletion(() -> apply(launchTimesByUser, true), () -> apply(launchTimesByUser, false));
+    }
+
+    /**
+     * 오늘 기준 최근 30일의 시간대별 실행 횟수 (index = 시, 0~23)
+     */
+    public int[] hourTotals(Long userId, LocalDate today) {
+        LaunchHistogram histogram = histograms.get(userId);
+        if (histogram == null) {
+            histogram = load(userId, today);
+        }
+        return histogram.hourTotals(today);
+    }
+
+    // 압축된 집계(app_launch_hourly_counts)와 원본(app_launches)의 일별/시간대별 횟수로 링 버퍼 재구성
+    // 압축은 한 트랜잭션에서 원본을 집계로 옮기므로, 두 조회를 같은 스냅숏에서 해야 옮겨지는 기록을 한 번만 셈
+    // 세대를 먼저 읽고 조회하므로, 그 사이 저장이 시작/반영되었으면 (중복 또는 누락일 수 있으므로) 캐시에 넣지 않음
+    private LaunchHistogram load(Long userId, LocalDate today) {
+        long generation = generations.getOrDefault(userId, 0L);
+        LocalDate windowStart = today.minusDays(WINDOW_DAYS - 1);
+        LaunchHistogram histogram = new LaunchHistogram();
+
+        snapshotTemplate.executeWithoutResult(status -> {
+            List<AppLaunchHourlyCount> compactedCounts =
+                    appLaunchHourlyCountRepository.findByUserIdAndLaunchDateGreaterThanEqual(userId, windowStart);
+            for (AppLaunchHourlyCount count : compactedCounts) {
+                histogram.add(count.getLaunchDate(), count.getLaunchHour(), count.getLaunchCount());
+            }
+
+            List<AppLaunchRepository.DailyHourlyLaunchCount> rawCounts =
+                    appLaunchRepository.countLaunchesByDayAndHour(userId, windowStart.atStartOfDay());
+            for (AppLaunchRepository.DailyHourlyLaunchCount count : rawCounts) {
+                histogram.add(count.getLaunchDate(), count.getLaunchHour(), count.getLaunchCount().intValue());
+            }
+        });
+
+        evictIfFull();
+        LaunchHistogram cached = histograms.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            boolean unchanged = generations.getOrDefault(userId, 0L) == generation && !pendingSaves.containsKey(userId);
+            return unchanged ? histogram : null;
+        });
+        return cached != null ? cached : histogram;
+    }
+
+    // 사용자별로 캐시 갱신과 저장 중 표시 해제를 한 번에 처리 (재구성 결과를 캐시에 넣는 compute와 겹치지 않음)
+    private void apply(Map<Long, List<LocalDateTime>> launchTimesByUser, boolean committed) {
+        launchTimesByUser.forEach((userId, launchTimes) -> histograms.compute(userId, (id, histogram) -> {
+            if (committed && histogram != null) {
+                launchTimes.forEach(histogram::record);
+            }
+            pendingSaves.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+            generations.merge(userId, 1L, Long::sum);
+            return histogram;
+        }));
+    }
+
+    // 캐시 크기 제한: 가득 차면 임의의 사용자 하나를 제거 (다음 조회 때 재구성됨)
+    private void evictIfFull() {
+        if (histograms.size() < maxCachedUsers) {
+            return;
+        }
+        Iterator<Long> iterator = histograms.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 한 사용자의 30일 x 24시간 링 버퍼
+     * 슬롯 = epochDay % 30, 슬롯이 다른 날짜를 가리키면 가장 오래된 날로 보고 0으로 비움
+     */
+    private static final class LaunchHistogram {
+
+        private final int[] counts = new int[WINDOW_DAYS * 24]; // [슬롯 * 24 + 시]
+        private final long[] slotDays = new long[WINDOW_DAYS];  // 각 슬롯이 담고 있는 epochDay
+        private final int[] totals = new int[24];               // 유효한 슬롯들의 시간대별 합계
+
+        LaunchHistogram() {
+            Arrays.fill(slotDays, Long.MIN_VALUE);
+        }
+
+        synchronized void record(LocalDateTime launchTime) {
+            add(launchTime.toLocalDate(), launchTime.getHour(), 1);
+        }
+
+        synchronized void add(LocalDate date, int hour, int amount) {
+            long day = date.toEpochDay();
+            int slot = (int) Math.floorMod(day, (long) WINDOW_DAYS);
+
+            if (slotDays[slot] != day) {
+                if (slotDays[slot] > day) {
+                    return; // 이미 더 최근 날짜가 차지한 슬롯 (윈도우 밖의 기록)
+                }
+                clear(slot);
+                slotDays[slot] = day;
+            }
+
+            counts[slot * 24 + hour] += amount;
+            totals[hour] += amount;
+        }
+
+        synchronized int[] hourTotals(LocalDate today) {
+            long oldestDay = today.toEpochDay() - (WINDOW_DAYS - 1);
+            for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+                if (slotDays[slot] != Long.MIN_VALUE && slotDays[slot] < oldestDay) {
+                    clear(slot); // 윈도우를 벗어난 날은 합계에서 제외
+                    slotDays[slot] = Long.MIN_VALUE;
+                }
+            }
+            return totals.clone();
+        }
+
+        private void clear(int slot) {
+            int base = slot * 24;
+            for (int hour = 0; hour < 24; hour++) {
+                totals[hour] -= counts[base + hour];
+                counts[base + hour] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.learnkit.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그만 남기는 푸시 클라이언트 (로컬 개발/테스트용 기본 구현)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "learnkit.reminder.push.transport", havingValue = "log", matchIfMissing = true)
+public class LoggingPushClient implements PushClient {
+
+    @Override
+    public Mono<Void> send(PushMessage message) {
+        return Mono.fromRunnable(() -> log.info("푸시 알림 (로컬): token={}, title={}", message.maskedToken(), message.title()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 목표 학습 세션의 포모도로 카운트 쓰기 버퍼 (write-behind)
+ * 세션별 최신 값만 메모리에 보관하고(마지막 값 우선), 일정 주기마다 한 트랜잭션으로 DB에 반영함
+ * 세션이 종료되면 종료 요청의 값이 최종값이므로 버퍼의 값은 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PomoCountBuffer {
+
+    private final GoalStudySessionRepository goalStudySessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Integer, Integer> pendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 최신 포모도로 카운트 기록 (이전 값은 덮어씀)
+     */
+    public void put(Integer sessionId, int pomoCount) {
+        pendingCounts.put(sessionId, pomoCount);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 포모도로 카운트 (없으면 null)
+     */
+    public Integer pending(Integer sessionId) {
+        return pendingCounts.get(sessionId);
+    }
+
+    /**
+     * 세션 종료/삭제 시 버퍼의 값 버림 (현재 트랜잭션 커밋 후)
+     */
+    public void discard(Integer sessionId) {
+        AfterCommit.run(() -> pendingCounts.remove(sessionId));
+    }
+
+    /**
+     * 버퍼의 값을 DB에 반영
+     * 반영하는 사이에 더 새로운 값이 들어온 세션은 다음 주기에 다시 반영됨
+     */
+    @Scheduled(fixedDelayString = "${learnkit.pomo-count.flush-interval-ms:30000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> snapshot = new HashMap<>(pendingCounts);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> snapshot.forEach((sessionId, pomoCount) ->
+                    goalStudySessionRepository.updatePomoCountIfInProgress(
+                            sessionId, pomoCount, pomoCount * GoalStudySession.POMODORO_MINUTES, now)));
+        } catch (RuntimeException e) {
+            log.warn("포모도로 카운트 반영 실패: {}건, 다음 주기에 다시 시도합니다.", snapshot.size(), e);
+            return;
+        }
+
+        snapshot.forEach(pendingCounts::remove); // 값이 그대로인 항목만 제거
+    }
+
+    /**
+     * 서버 종료 시 남은 값을 모두 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
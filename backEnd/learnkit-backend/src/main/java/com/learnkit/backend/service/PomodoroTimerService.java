@@ -0,0 +1,342 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.dto.PomodoroTimerDto;
+import com.learnkit.backend.exception.custom.GoalStudySessionNotFoundException;
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 포모도로 타이머 서비스
+ * 진행 중인 목표 학습 세션마다 집중/휴식 타이머를 서버에서 돌리고, 단계가 바뀔 때 SSE로 모든 기기에 알림
+ * 집중 단계가 끝나면 포모도로 카운트를 올려 포모도로 카운트 버퍼를 통해 DB에 반영함 (클라이언트의 주기적 쓰기 불필요)
+ *
+ * 단계 전환 규칙 (앱과 동일):
+ * - 집중 완료 → 포모도로 +1, 휴식 자동 시작 (N회마다 긴 휴식)
+ * - 휴식 완료 → 다음 집중 단계로 넘어가서 정지 (사용자가 다시 시작)
+ *
+ * 타이머 휠 스레드와 timer 잠금 안에서는 상태만 바꾸고 전송할 이벤트를 타이머별 대기열에 넣음
+ * 실제 SSE 전송(느린 기기에서 막힐 수 있음)은 크기가 정해진 전송 풀에서 타이머마다 한 번에 하나씩 순서대로 처리함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PomodoroTimerService {
+
+    private static final String FOCUS = "FOCUS";
+    private static final String SHORT_BREAK = "SHORT_BREAK";
+    private static final String LONG_BREAK = "LONG_BREAK";
+
+    private final GoalStudySessionRepository goalStudySessionRepository;
+    private final PomoCountBuffer pomoCountBuffer;
+
+    private final ConcurrentHashMap<Integer, PomodoroTimer> timers = new ConcurrentHashMap<>();
+    private final HashedTimingWheel wheel = new HashedTimingWheel("pomodoro-timer", 100, 1024);
+
+    @Value("${learnkit.pomodoro.focus-minutes:25}")
+    private long focusMinutes;
+
+    @Value("${learnkit.pomodoro.short-break-minutes:5}")
+    private long shortBreakMinutes;
+
+    @Value("${learnkit.pomodoro.long-break-minutes:30}")
+    private long longBreakMinutes;
+
+    @Value("${learnkit.pomodoro.long-break-every:4}")
+    private int longBreakEvery;
+
+    @Value("${learnkit.pomodoro.sse-timeout-ms:1800000}")
+    private long sseTimeoutMillis;
+
+    @Value("${learnkit.pomodoro.publisher-threads:4}")
+    private int publisherThreads;
+
+    @Value("${learnkit.pomodoro.publisher-queue-capacity:1024}")
+    private int publisherQueueCapacity;
+
+    private ThreadPoolExecutor publisher;
+
+    @PostConstruct
+    public void startWheel() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        publisher = new ThreadPoolExecutor(publisherThreads, publisherThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(publisherQueueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "pomodoro-publisher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        publisher.allowCoreThreadTimeOut(true);
+        wheel.start();
+    }
+
+    @PreDestroy
+    public void stopWheel() {
+        wheel.stop();
+        publisher.shutdown();
+    }
+
+    /**
+     * 타이머 시작 (일시정지 상태면 남은 시간부터 재개)
+     */
+    public PomodoroTimerDto.State start(Integer sessionId) {
+        PomodoroTimer timer = timerFor(sessionId);
+        synchronized (timer) {
+            if (!timer.running) {
+                timer.running = true;
+                schedule(timer);
+            }
+            return publish(timer, "STARTED");
+        }
+    }
+
+    /**
+     * 타이머 일시정지
+     */
+    public PomodoroTimerDto.State pause(Integer sessionId) {
+        PomodoroTimer timer = timerFor(sessionId);
+        synchronized (timer) {
+            if (timer.running) {
+                timer.remainingMillis = Math.max(timer.phaseEndsAtMillis - System.currentTimeMillis(), 0);
+                timer.running = false;
+                cancel(timer);
+            }
+            return publish(timer, "PAUSED");
+        }
+    }
+
+    /**
+     * 현재 단계를 처음부터 다시 (정지 상태로)
+     */
+    public PomodoroTimerDto.State reset(Integer sessionId) {
+        PomodoroTimer timer = timerFor(sessionId);
+        synchronized (timer) {
+            timer.running = false;
+            timer.remainingMillis = phaseMillis(timer.phase);
+            cancel(timer);
+            return publish(timer, "RESET");
+        }
+    }
+
+    /**
+     * 현재 타이머 상태
+     */
+    public PomodoroTimerDto.State getState(Integer sessionId) {
+        PomodoroTimer timer = timerFor(sessionId);
+        synchronized (timer) {
+            return toState(timer, "SNAPSHOT");
+        }
+    }
+
+    /**
+     * 타이머 이벤트 구독 (SSE)
+     * 구독 즉시 현재 상태를 한 번 보내고, 이후 상태가 바뀔 때마다 전송
+     */
+    public SseEmitter subscribe(Integer sessionId) {
+        PomodoroTimer timer = timerFor(sessionId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitter.onCompletion(() -> timer.emitters.remove(emitter));
+        emitter.onTimeout(() -> timer.emitters.remove(emitter));
+        emitter.onError(e -> timer.emitters.remove(emitter));
+
+        synchronized (timer) {
+            timer.emitters.add(emitter);
+            PomodoroTimerDto.State snapshot = toState(timer, "SNAPSHOT");
+            enqueue(timer, () -> send(timer, emitter, snapshot));
+        }
+        return emitter;
+    }
+
+    /**
+     * 세션 종료/삭제 시 타이머 제거 (구독 중인 기기에 ENDED 전송 후 연결 종료)
+     */
+    public void stop(Integer sessionId) {
+        PomodoroTimer timer = timers.remove(sessionId);
+        if (timer == null) {
+            return;
+        }
+        synchronized (timer) {
+            timer.running = false;
+            cancel(timer);
+            publish(timer, "ENDED");
+            // ENDED 전송 뒤에 연결 종료
+            enqueue(timer, () -> {
+                for (SseEmitter emitter : timer.emitters) {
+                    emitter.complete();
+                }
+                timer.emitters.clear();
+            });
+        }
+    }
+
+    // 메모리에 없으면 세션의 현재 포모도로 카운트로 정지 상태 타이머 생성
+    private PomodoroTimer timerFor(Integer sessionId) {
+        PomodoroTimer timer = timers.get(sessionId);
+        if (timer != null) {
+            return timer;
+        }
+
+        GoalStudySession session = goalStudySessionRepository.findById(sessionId)
+                .orElseThrow(() -> new GoalStudySessionNotFoundException(sessionId));
+        if (!session.isInProgress()) {
+            throw new IllegalStateException("이미 종료된 세션입니다.");
+        }
+
+        Integer pendingPomoCount = pomoCountBuffer.pending(sessionId);
+        int pomoCount = pendingPomoCount != null ? pendingPomoCount : session.getPomoCount();
+        return timers.computeIfAbsent(sessionId, id -> new PomodoroTimer(id, pomoCount, phaseMillis(FOCUS)));
+    }
+
+    // 현재 단계의 남은 시간 뒤에 단계 전환 예약 (timer 잠금 안에서 호출)
+    private void schedule(PomodoroTimer timer) {
+        cancel(timer);
+        long generation = timer.generation;
+        timer.phaseEndsAtMillis = System.currentTimeMillis() + timer.remainingMillis;
+        timer.timeout = wheel.schedule(() -> onPhaseEnd(timer, generation), timer.remainingMillis);
+    }
+
+    private void cancel(PomodoroTimer timer) {
+        timer.generation++;
+        if (timer.timeout != null) {
+            timer.timeout.cancel();
+            timer.timeout = null;
+        }
+    }
+
+    // 휠 스레드에서 실행: 단계 전환 후 알림 (전송은 대기열에 넣기만 함)
+    private void onPhaseEnd(PomodoroTimer timer, long generation) {
+        synchronized (timer) {
+            if (!timer.running || timer.generation != generation) {
+                return; // 일시정지/초기화/종료된 뒤 늦게 도착한 만료
+            }
+
+            if (FOCUS.equals(timer.phase)) {
+                timer.pomoCount++;
+                pomoCountBuffer.put(timer.sessionId, timer.pomoCount);
+
+                timer.phase = timer.pomoCount % longBreakEvery == 0 ? LONG_BREAK : SHORT_BREAK;
+                timer.remainingMillis = phaseMillis(timer.phase);
+                schedule(timer); // 휴식은 자동 시작
+                publish(timer, "FOCUS_COMPLETED");
+            } else {
+                timer.phase = FOCUS;
+                timer.remainingMillis = phaseMillis(FOCUS);
+                timer.running = false; // 다음 집중은 사용자가 시작
+                timer.timeout = null;
+                publish(timer, "BREAK_COMPLETED");
+            }
+        }
+    }
+
+    private long phaseMillis(String phase) {
+        long minutes = switch (phase) {
+            case SHORT_BREAK -> shortBreakMinutes;
+            case LONG_BREAK -> longBreakMinutes;
+            default -> focusMinutes;
+        };
+        return minutes * 60_000;
+    }
+
+    // 모든 구독 기기에 보낼 상태를 대기열에 추가 (timer 잠금 안에서 호출, 전송은 전송 풀에서)
+    private PomodoroTimerDto.State publish(PomodoroTimer timer, String event) {
+        PomodoroTimerDto.State state = toState(timer, event);
+        enqueue(timer, () -> {
+            for (SseEmitter emitter : timer.emitters) {
+                send(timer, emitter, state);
+            }
+        });
+        return state;
+    }
+
+    private void enqueue(PomodoroTimer timer, Runnable delivery) {
+        timer.outbox.add(delivery);
+        drain(timer);
+    }
+
+    // 타이머당 전송 작업은 최대 하나만 실행하여 이벤트 순서를 지킴
+    private void drain(PomodoroTimer timer) {
+        if (!timer.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            publisher.execute(() -> {
+                try {
+                    Runnable delivery;
+                    while ((delivery = timer.outbox.poll()) != null) {
+                        delivery.run();
+                    }
+                } finally {
+                    timer.draining.set(false);
+                }
+                if (!timer.outbox.isEmpty()) {
+                    drain(timer); // 비우는 사이에 들어온 이벤트
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 전송 풀이 가득 참: 이벤트는 대기열에 남겨 두고 다음 이벤트 때 다시 시도 (휠 스레드는 막지 않음)
+            timer.draining.set(false);
+            log.warn("포모도로 이벤트 전송 지연: sessionId={}, 대기 {}건", timer.sessionId, timer.outbox.size());
+        }
+    }
+
+    private void send(PomodoroTimer timer, SseEmitter emitter, PomodoroTimerDto.State state) {
+        try {
+            emitter.send(SseEmitter.event().name("timer").data(state));
+        } catch (IOException | IllegalStateException e) {
+            timer.emitters.remove(emitter); // 연결이 끊긴 기기
+        }
+    }
+
+    private PomodoroTimerDto.State toState(PomodoroTimer timer, String event) {
+        long now = System.currentTimeMillis();
+        long remainingMillis = timer.running ? Math.max(timer.phaseEndsAtMillis - now, 0) : timer.remainingMillis;
+        LocalDateTime phaseEndsAt = timer.running ? LocalDateTime.now().plusNanos(remainingMillis * 1_000_000) : null;
+        return new PomodoroTimerDto.State(timer.sessionId, event, timer.phase, timer.running,
+                (remainingMillis + 999) / 1000, phaseEndsAt, timer.pomoCount);
+    }
+
+    /**
+     * 세션 하나의 타이머 상태 (필드는 timer 잠금 안에서만 변경, 전송 대기열 제외)
+     */
+    private static final class PomodoroTimer {
+
+        private final Integer sessionId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Queue<Runnable> outbox = new ConcurrentLinkedQueue<>(); // 보낼 이벤트 (순서대로)
+        private final AtomicBoolean draining = new AtomicBoolean(); // 전송 풀에서 대기열을 비우는 중
+
+        private String phase = FOCUS;
+        private boolean running;
+        private long remainingMillis;     // 정지 상태일 때 남은 시간
+        private long phaseEndsAtMillis;   // 실행 중일 때 단계 종료 시각
+        private int pomoCount;
+        private long generation;          // 예약이 바뀔 때마다 증가 (늦게 도착한 만료 무시용)
+        private HashedTimingWheel.Timeout timeout;
+
+        private PomodoroTimer(Integer sessionId, int pomoCount, long focusMillis) {
+            this.sessionId = sessionId;
+            this.pomoCount = pomoCount;
+            this.remainingMillis = focusMillis;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.learnkit.backend.service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 푸시 알림 전송 클라이언트
+ * 전송은 논블로킹(Mono)으로 처리하고, 동시 전송 수 제한과 재시도는 호출하는 쪽(ReminderDispatcher)에서 처리함
+ * learnkit.reminder.push.transport 설정으로 구현체 선택 (log: 로그만 남기는 로컬용, http: 푸시 게이트웨이로 전송)
+ */
+public interface PushClient {
+
+    /**
+     * 알림 한 건 전송 (실패하면 error 신호)
+     */
+    Mono<Void> send(PushMessage message);
+
+    /**
+     * 알림 한 건 (token은 기기로 푸시를 보낼 수 있는 자격 증명이므로 로그에는 maskedToken만 남김)
+     */
+    record PushMessage(String token, String title, String body) {
+
+        // 끝 4자리만 남긴 토큰 (로그용)
+        public String maskedToken() {
+            if (token == null || token.length() <= 4) {
+                return "****";
+            }
+            return "****" + token.substring(token.length() - 4);
+        }
+
+        @Override
+        public String toString() {
+            return "PushMessage[token=" + maskedToken() + ", title=" + title + "]";
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 학습 알림 발송기
+ * 푸시 토큰이 있는 사용자마다 다음 알림 시각을 타이밍 휠에 예약하고, 시각이 된 알림을 모아서 배치로 보냄
+ * 사용자 목록은 서버 시작 시 한 번만 키셋 페이지로 읽고, 이후에는 토큰 등록/해제 때만 예약을 바꿈 (주기적인 사용자 테이블 스캔 없음)
+ *
+ * 알림 시각 = 최근 30일 앱 실행 피크 시간대 1시간 전 (AppLaunchService.calculatePeakHours)
+ * 발송 시점에 피크 시간대를 다시 계산하여, 바뀌었으면 이번에는 보내지 않고 새 시각으로 다시 예약함
+ * 예약은 메모리에만 있으므로 서버 한 대 기준 (재시작 시 DB에서 다시 적재)
+ * 발송(피크 계산, 배치 전송 대기)은 전용 스레드에서 실행하여 다른 @Scheduled 작업(버퍼 flush, 세션 정리)을 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderDispatcher {
+
+    private static final int DEFAULT_REMINDER_HOUR = 18; // 피크 기본값(19시) 1시간 전
+    private static final String TITLE = "공부할 시간이에요";
+    private static final String BODY = "오늘의 목표를 이어서 진행해 보세요.";
+
+    private final UserRepository userRepository;
+    private final AppLaunchService appLaunchService;
+    private final PushClient pushClient;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Reminder> reminders = new ConcurrentHashMap<>();
+    private final Queue<Reminder> dueReminders = new ConcurrentLinkedQueue<>();
+    private final HashedTimingWheel wheel = new HashedTimingWheel("reminder-timer", 1000, 4096);
+
+    @Value("${learnkit.reminder.batch-size:500}")
+    private int batchSize;
+
+    @Value("${learnkit.reminder.max-concurrency:32}")
+    private int maxConcurrency;
+
+    @Value("${learnkit.reminder.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${learnkit.reminder.retry-backoff-ms:500}")
+    private long retryBackoffMillis;
+
+    @Value("${learnkit.reminder.batch-timeout-ms:60000}")
+    private long batchTimeoutMillis;
+
+    @Value("${learnkit.reminder.dispatch-interval-ms:1000}")
+    private long dispatchIntervalMillis;
+
+    private ScheduledExecutorService dispatcher;
+
+    @PostConstruct
+    public void start() {
+        wheel.start();
+        dispatcher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "reminder-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatchSafely, dispatchIntervalMillis, dispatchIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+        wheel.stop();
+    }
+
+    /**
+     * 서버 시작 시 푸시 토큰이 있는 사용자 전체의 알림 예약
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadReminders() {
+        long afterId = 0;
+        List<UserRepository.ReminderTarget> targets;
+        do {
+            targets = userRepository.findReminderTargets(afterId, PageRequest.of(0, batchSize));
+            for (UserRepository.ReminderTarget target : targets) {
+                int hour = target.getReminderHour() != null ? target.getReminderHour() : DEFAULT_REMINDER_HOUR;
+                schedule(target.getUserId(), target.getPushToken(), hour);
+                afterId = target.getUserId();
+            }
+        } while (targets.size() == batchSize);
+        log.info("학습 알림 예약 적재: {}명", reminders.size());
+    }
+
+    /**
+     * 알림 예약 (이미 예약돼 있으면 교체)
+     */
+    public void register(Long userId, String pushToken, int hour) {
+        schedule(userId, pushToken, hour);
+    }
+
+    /**
+     * 알림 예약 취소
+     */
+    public void unregister(Long userId) {
+        reminders.computeIfPresent(userId, (id, reminder) -> {
+            reminder.timeout.cancel();
+            return null;
+        });
+    }
+
+    // 예외가 나면 이후 실행이 모두 멈추므로 (scheduleWithFixedDelay) 로그만 남기고 다음 주기에 계속
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("학습 알림 발송 실패", e);
+        }
+    }
+
+    /**
+     * 시각이 된 알림을 배치 단위로 발송 (전용 발송 스레드에서 주기적으로 실행)
+     */
+    public void dispatch() {
+        List<Reminder> batch = drain();
+        while (!batch.isEmpty()) {
+            send(batch);
+            batch = drain();
+        }
+    }
+
+    private List<Reminder> drain() {
+        List<Reminder> batch = new ArrayList<>();
+        Reminder reminder;
+        while (batch.size() < batchSize && (reminder = dueReminders.poll()) != null) {
+            batch.add(reminder);
+        }
+        return batch;
+    }
+
+    // 보낼 알림을 고르고 다음 예약을 건 뒤, 동시 전송 수를 제한하여 보내고 실패한 건은 지수 백오프로 재시도
+    private void send(List<Reminder> batch) {
+        List<PushClient.PushMessage> messages = new ArrayList<>();
+        for (Reminder reminder : batch) {
+            if (reminders.get(reminder.userId) != reminder) {
+                continue; // 발송 전에 해제되었거나 새 예약으로 교체됨
+            }
+
+            int hour = appLaunchService.calculatePeakHours(reminder.userId).getSuggestedReminderTime().getHour();
+            // 바뀐 시각 또는 다음 날 같은 시각으로 다시 예약 (피크 계산 중에 해제/교체되었으면 건너뜀)
+            if (!reschedule(reminder, hour)) {
+                continue;
+            }
+            if (hour != reminder.hour) {
+                transactionTemplate.executeWithoutResult(status ->
+                        userRepository.updateReminderHour(reminder.userId, hour, LocalDateTime.now()));
+                continue;
+            }
+
+            messages.add(new PushClient.PushMessage(reminder.pushToken, TITLE, BODY));
+        }
+
+        try {
+            Flux.fromIterable(messages)
+                    .flatMap(message -> pushClient.send(message)
+                            .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMillis)))
+                            .onErrorResume(e -> {
+                                log.warn("학습 알림 전송 실패: token={}", message.maskedToken(), e);
+                                return Mono.empty();
+                            }), maxConcurrency)
+                    .then()
+                    .block(Duration.ofMillis(batchTimeoutMillis));
+        } catch (RuntimeException e) {
+            log.warn("학습 알림 배치 전송이 제한 시간 안에 끝나지 않음: {}건", messages.size(), e);
+        }
+    }
+
+    // 알림 예약 (이미 예약돼 있으면 교체)
+    private void schedule(Long userId, String pushToken, int hour) {
+        reminders.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                previous.timeout.cancel();
+            }
+            return newReminder(userId, pushToken, hour);
+        });
+    }
+
+    // 발송한 예약이 아직 현재 예약일 때만 다음 예약으로 교체 (확인과 교체를 한 번에 하여 그 사이의 해제/교체를 덮어쓰지 않음)
+    private boolean reschedule(Reminder sent, int hour) {
+        AtomicBoolean replaced = new AtomicBoolean();
+        reminders.computeIfPresent(sent.userId, (id, current) -> {
+            if (current != sent) {
+                return current; // 해제 후 다시 등록되었거나 새 예약으로 교체됨
+            }
+            replaced.set(true);
+            return newReminder(sent.userId, sent.pushToken, hour);
+        });
+        return replaced.get();
+    }
+
+    // 다음 hour시 정각에 알림 예약 (1분 안에 돌아오는 시각은 다음 날로 넘겨 같은 날 두 번 보내지 않음)
+    private Reminder newReminder(Long userId, String pushToken, int hour) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime fireAt = now.toLocalDate().atTime(hour, 0);
+        if (fireAt.isBefore(now.plusMinutes(1))) {
+            fireAt = fireAt.plusDays(1);
+        }
+        Reminder reminder = new Reminder(userId, pushToken, hour);
+        reminder.timeout = wheel.schedule(() -> dueReminders.add(reminder), Duration.between(now, fireAt).toMillis());
+        return reminder;
+    }
+
+    private static final class Reminder {
+
+        private final Long userId;
+        private final String pushToken;
+        private final int hour;
+        private HashedTimingWheel.Timeout timeout; // compute 안에서만 설정/취소
+
+        Reminder(Long userId, String pushToken, int hour) {
+            this.userId = userId;
+            this.pushToken = pushToken;
+            this.hour = hour;
+        }
+    }
+}
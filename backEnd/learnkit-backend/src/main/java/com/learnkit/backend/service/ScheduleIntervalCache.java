@@ -0,0 +1,87 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 일정 구간 트리 캐시
+ * 빈 시간 조회/학습 계획 때 처음 필요할 때 한 번 만들고, 일정이 생성/수정/삭제되면 커밋 후 버림
+ * 일정 충돌 확인은 쓰기 트랜잭션 안에서 겹치는 후보만 인덱스로 읽으므로 이 캐시를 쓰지 않음
+ * 캐시에는 트랜잭션 밖에서 읽은(커밋된) 일정으로 만든 트리만 넣음
+ * 트랜잭션 안에서는 커밋 전 변경이나 무효화 전에 잡힌 스냅숏을 읽을 수 있으므로, 트리를 만들어 쓰기만 하고 캐시하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleIntervalCache {
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ConcurrentHashMap<Long, ScheduleIntervalTree> trees = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> generations = new ConcurrentHashMap<>(); // 무효화 횟수
+
+    @Value("${learnkit.schedule.interval-tree-cache-size:1000}")
+    private int maxCachedUsers;
+
+    /**
+     * 사용자의 일정 구간 트리 (없으면 DB에서 구성)
+     * 캐시를 채우려면 트랜잭션 밖에서 호출해야 함 (트랜잭션 안에서는 매번 구성)
+     */
+    ScheduleIntervalTree tree(Long userId) {
+        ScheduleIntervalTree tree = trees.get(userId);
+        if (tree != null) {
+            return tree;
+        }
+        return TransactionSynchronizationManager.isActualTransactionActive() ? build(userId) : load(userId);
+    }
+
+    /**
+     * 일정 변경 반영 (현재 트랜잭션 커밋 후 트리 제거, 다음 조회 때 다시 구성)
+     */
+    void invalidate(Long userId) {
+        AfterCommit.run(() -> {
+            generations.merge(userId, 1L, Long::sum);
+            trees.remove(userId);
+        });
+    }
+
+    // 세대를 먼저 읽고 조회하므로, 구성하는 동안 무효화되었으면 (오래된 값일 수 있으므로) 캐시에 넣지 않음
+    private ScheduleIntervalTree load(Long userId) {
+        long generation = generations.getOrDefault(userId, 0L);
+        ScheduleIntervalTree tree = build(userId);
+
+        evictIfFull();
+        trees.compute(userId, (id, current) ->
+                generations.getOrDefault(userId, 0L) == generation ? tree : current);
+        return tree;
+    }
+
+    private ScheduleIntervalTree build(Long userId) {
+        List<ScheduleIntervalTree.Entry> entries = scheduleRepository.findSpansByUserId(userId).stream()
+                .map(span -> new ScheduleIntervalTree.Entry(
+                        span.getId(), span.getTitle(), span.getStartTime(), span.getEndTime(),
+                        span.getSeriesEndTime() != null ? span.getSeriesEndTime() : span.getEndTime(),
+                        span.getRecurrenceFrequency(), span.getRecurrenceInterval(), span.getRecurrenceUntil(),
+                        span.getRecurrenceExceptions()))
+                .toList();
+        return new ScheduleIntervalTree(entries);
+    }
+
+    // 캐시 크기 제한: 가득 차면 임의의 사용자 하나를 제거 (다음 조회 때 재구성됨)
+    private void evictIfFull() {
+        if (trees.size() < maxCachedUsers) {
+            return;
+        }
+        Iterator<Long> iterator = trees.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
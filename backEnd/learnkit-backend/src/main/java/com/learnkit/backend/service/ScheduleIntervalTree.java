@@ -0,0 +1,143 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.Schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 한 사용자의 일정 구간 트리 (불변)
+ * 일정을 시작 시간순으로 정렬한 배열을 암묵적 균형 이진 트리로 보고(구간 [lo, hi)의 루트 = 가운데),
+ * 각 노드에 서브트리의 최대 종료 시간을 저장하여 겹치는 일정 조회를 O(log n + k)로 처리함
+ * 반복 일정은 첫 회차 시작 ~ 마지막 회차 종료(seriesEndTime)를 한 구간으로 넣고, 회차는 조회 후 계산함
+ */
+final class ScheduleIntervalTree {
+
+    private final Entry[] entries;          // 시작 시간순
+    private final LocalDateTime[] maxEnds;  // maxEnds[mid] = 해당 노드 서브트리의 최대 종료 시간
+
+    ScheduleIntervalTree(List<Entry> entries) {
+        this.entries = entries.toArray(new Entry[0]);
+        Arrays.sort(this.entries, Comparator.comparing(Entry::startTime));
+        this.maxEnds = new LocalDateTime[this.entries.length];
+        buildMaxEnds(0, this.entries.length);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * 기간 [from, to)과 겹치는 일정 구간 (시작 시간순)
+     * 겹침 조건은 일정 기간 조회와 같음: 시작 < to 이고 종료 > from, 길이 0인 일정은 시작이 기간 안이면 포함
+     */
+    List<Entry> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<Entry> result = new ArrayList<>();
+        collect(0, entries.length, from, to, result);
+        return result;
+    }
+
+    /**
+     * 기간 [from, to) 안에서 어떤 일정 회차와도 겹치지 않는 구간 (시작 시간순)
+     * 겹치는 회차를 시작 시간순으로 정렬한 뒤 한 번 훑으며(sweep line) 지금까지의 최대 종료 시간 이후의 틈을 모음
+     */
+    List<Interval> freeIntervals(LocalDateTime from, LocalDateTime to) {
+        List<Schedule.Occurrence> busy = new ArrayList<>();
+        for (Entry entry : overlapping(from, to)) {
+            Iterator<Schedule.Occurrence> occurrences = entry.occurrences(from, to);
+            while (occurrences.hasNext()) {
+                busy.add(occurrences.next());
+            }
+        }
+        busy.sort(Comparator.comparing(Schedule.Occurrence::startTime));
+
+        List<Interval> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (Schedule.Occurrence occurrence : busy) {
+            if (occurrence.startTime().isAfter(cursor)) {
+                free.add(new Interval(cursor, occurrence.startTime()));
+            }
+            if (occurrence.endTime().isAfter(cursor)) {
+                cursor = occurrence.endTime();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            free.add(new Interval(cursor, to));
+        }
+        return free;
+    }
+
+    private LocalDateTime buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime maxEnd = entries[mid].seriesEndTime();
+        LocalDateTime left = buildMaxEnds(lo, mid);
+        LocalDateTime right = buildMaxEnds(mid + 1, hi);
+        if (left != null && left.isAfter(maxEnd)) {
+            maxEnd = left;
+        }
+        if (right != null && right.isAfter(maxEnd)) {
+            maxEnd = right;
+        }
+        maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime from, LocalDateTime to, List<Entry> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid].isBefore(from)) {
+            return; // 서브트리 전체가 기간 전에 끝남
+        }
+
+        collect(lo, mid, from, to, result);
+
+        Entry entry = entries[mid];
+        if (!entry.startTime().isBefore(to)) {
+            return; // 오른쪽 서브트리는 더 늦게 시작하므로 모두 기간 밖
+        }
+        if (entry.seriesEndTime().isAfter(from) || !entry.startTime().isBefore(from)) {
+            result.add(entry);
+        }
+
+        collect(mid + 1, hi, from, to, result);
+    }
+
+    /**
+     * 시간 구간 [startTime, endTime)
+     */
+    record Interval(LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    /**
+     * 트리에 들어가는 일정 하나의 시간/반복 정보
+     */
+    record Entry(Long scheduleId, String title, LocalDateTime startTime, LocalDateTime endTime,
+                 LocalDateTime seriesEndTime, Schedule.Frequency recurrenceFrequency, Integer recurrenceInterval,
+                 LocalDateTime recurrenceUntil, List<LocalDate> recurrenceExceptions) {
+
+        static Entry of(Schedule schedule) {
+            return new Entry(schedule.getId(), schedule.getTitle(), schedule.getStartTime(), schedule.getEndTime(),
+                    schedule.getSeriesEndTime() != null ? schedule.getSeriesEndTime() : schedule.getEndTime(),
+                    schedule.getRecurrenceFrequency(), schedule.getRecurrenceInterval(), schedule.getRecurrenceUntil(),
+                    schedule.getRecurrenceExceptions());
+        }
+
+        /**
+         * 기간 [from, to)과 겹치는 이 일정의 회차
+         */
+        Iterator<Schedule.Occurrence> occurrences(LocalDateTime from, LocalDateTime to) {
+            return Schedule.occurrences(startTime, endTime, recurrenceFrequency, recurrenceInterval,
+                    recurrenceUntil, recurrenceExceptions, from, to);
+        }
+    }
+}
@@ -4,15 +4,31 @@ package com.learnkit.backend.service;
 import com.learnkit.backend.domain.Schedule;
 import com.learnkit.backend.domain.User;
 import com.learnkit.backend.dto.ScheduleDto;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+import com.learnkit.backend.exception.custom.ScheduleConflictException;
 import com.learnkit.backend.exception.custom.ScheduleNotFoundException;
 import com.learnkit.backend.exception.custom.UserNotFoundException;
 import com.learnkit.backend.repository.ScheduleRepository;
 import com.learnkit.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 
+@Slf4j
 @Service // 비즈니스 로직을 담당하는 Service 컴포넌트임을 스프링에게 알린다.
 @RequiredArgsConstructor // final 필드에 대한 생성자를 자동으로 만들어주는 롬복 어노테이션.
 @Transactional  // 감시하던 schedule 객체의 변화를 감지(Dirty Checking)하고 update 쿼리 실행.
@@ -22,6 +38,9 @@ public class ScheduleService {
     // Spring이 객체를 주입 -> 필드에 실제 객체 할당
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final ScheduleIntervalCache scheduleIntervalCache;
+
+    private static final long MAX_RANGE_DAYS = 366; // 기간 조회 최대 범위 (1년)
 
 
     // 일정 생성
@@ -33,9 +52,17 @@ public class ScheduleService {
         // DTO를 Entity로 변환하고, 사용자 정보 설정
         Schedule schedule = requestDto.toEntity();
         schedule.setUser(user); // schedule이 속한 user 설정
+        if (requestDto.getRecurrenceFrequency() != null) {
+            applyRecurrence(schedule, requestDto.getRecurrenceFrequency(), requestDto.getRecurrenceInterval(),
+                    requestDto.getRecurrenceUntil(), requestDto.getRecurrenceExceptions());
+        }
+        if (!Boolean.TRUE.equals(requestDto.getAllowOverlap())) {
+            checkConflicts(userId, schedule);
+        }
 
         // DB에 저장, @LastModifiedDate에 의하여 BaseTimeEntity의 updatedAt도 저장
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        scheduleIntervalCache.invalidate(userId);
 
         // Entity를 Response DTO로 변환하여 반환
         return new ScheduleDto.Response(savedSchedule);
@@ -49,6 +76,36 @@ public class ScheduleService {
                 .toList();
     }
 
+    // 기간 [from, to)과 겹치는 일정 조회 (달력 화면에 보이는 범위만)
+    public List<ScheduleDto.Response> findSchedulesInRange(Long userId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+
+        // 반복 일정은 규칙 행에서 기간 안의 회차만 계산하여 펼침
+        List<ScheduleDto.Response> responses = new ArrayList<>();
+        LocalDateTime shortFrom = from.minusDays(Schedule.SHORT_SPAN_DAYS);
+        for (Schedule schedule : scheduleRepository.findOverlapping(userId, from, to, shortFrom)) {
+            Iterator<Schedule.Occurrence> occurrences = schedule.occurrences(from, to);
+            while (occurrences.hasNext()) {
+                responses.add(new ScheduleDto.Response(schedule, occurrences.next()));
+            }
+        }
+        responses.sort(Comparator.comparing(ScheduleDto.Response::getStartTime));
+        return responses;
+    }
+
+    // 달력 보기 단위(month/week)로 date가 속한 기간의 일정 조회
+    // month: 그 달 1일 ~ 다음 달 1일, week: 그 주 월요일 ~ 다음 주 월요일
+    public List<ScheduleDto.Response> findSchedulesForView(Long userId, String view, LocalDate date) {
+        LocalDate from = switch (view.toLowerCase()) {
+            case "month" -> date.withDayOfMonth(1);
+            case "week" -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            default -> throw new InvalidRequestException("view는 month 또는 week 이어야 합니다: " + view);
+        };
+        LocalDate to = view.equalsIgnoreCase("month") ? from.plusMonths(1) : from.plusWeeks(1);
+
+        return findSchedulesInRange(userId, from.atStartOfDay(), to.atStartOfDay());
+    }
+
     // 일정 상세 조회
     public ScheduleDto.Response findScheduleById(Long scheduleId) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -73,6 +130,25 @@ public class ScheduleService {
                 requestDto.getIsCompleted()
         );
 
+        // 반복 규칙 변경 (해제 > 규칙 교체 > 제외 날짜만 교체 순으로 하나만 적용)
+        if (Boolean.TRUE.equals(requestDto.getRemoveRecurrence())) {
+            schedule.clearRecurrence();
+        } else if (requestDto.getRecurrenceFrequency() != null) {
+            applyRecurrence(schedule, requestDto.getRecurrenceFrequency(), requestDto.getRecurrenceInterval(),
+                    requestDto.getRecurrenceUntil(), requestDto.getRecurrenceExceptions());
+        } else if (requestDto.getRecurrenceExceptions() != null && schedule.isRecurring()) {
+            schedule.updateRecurrenceExceptions(requestDto.getRecurrenceExceptions());
+        }
+
+        // 시간이나 반복이 바뀐 경우만 충돌 확인 (제목 등만 바꿀 때는 기존 겹침을 문제 삼지 않음)
+        Long userId = schedule.getUser() != null ? schedule.getUser().getId() : null;
+        if (userId != null) {
+            if (changesTime(requestDto) && !Boolean.TRUE.equals(requestDto.getAllowOverlap())) {
+                checkConflicts(userId, schedule);
+            }
+            scheduleIntervalCache.invalidate(userId);
+        }
+
         //  @Transactional에 의해 메서드가 끝나면 변경된 내용이 자동으로 DB에 반영됩니다(UPDATE 쿼리).
         //  별도의 save() 호출이 필요 없습니다.
 
@@ -80,10 +156,99 @@ public class ScheduleService {
         return new ScheduleDto.Response(schedule);
     }
 
+    // 기간 [from, to) 안에서 일정이 없는 시간 중 minMinutes 이상인 구간 (시작 시간순)
+    // 구간 트리를 캐시할 수 있도록 트랜잭션 없이 실행
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public List<ScheduleDto.FreeSlot> findFreeSlots(Long userId, LocalDateTime from, LocalDateTime to, int minMinutes) {
+        validateRange(from, to);
+        if (minMinutes < 1) {
+            throw new InvalidRequestException("최소 빈 시간은 1분 이상이어야 합니다.");
+        }
+
+        return scheduleIntervalCache.tree(userId).freeIntervals(from, to).stream()
+                .filter(interval -> Duration.between(interval.startTime(), interval.endTime()).toMinutes() >= minMinutes)
+                .map(interval -> new ScheduleDto.FreeSlot(interval.startTime(), interval.endTime()))
+                .toList();
+    }
+
+    // 저장하려는 일정의 회차가 다른 일정의 회차와 겹치면 예외
+    // 반복 일정은 시작 후 MAX_RANGE_DAYS 안의 회차만 확인함 (종료일 없는 반복도 확인 범위가 유한하도록)
+    // 쓰기 트랜잭션 안에서 실행되므로 캐시된 트리 대신, 회차 전체 범위와 겹치는 일정만 인덱스 범위 조회(findOverlapping)로
+    // 읽어 그 일정들로만 구간 트리를 만들고 회차마다 조회함
+    private void checkConflicts(Long userId, Schedule schedule) {
+        List<Schedule.Occurrence> occurrences = new ArrayList<>();
+        schedule.occurrences(schedule.getStartTime(), schedule.getStartTime().plusDays(MAX_RANGE_DAYS))
+                .forEachRemaining(occurrences::add);
+        if (occurrences.isEmpty()) {
+            return;
+        }
+        // 회차는 시작 시간순이고 길이가 같으므로 마지막 회차의 종료가 범위의 끝
+        LocalDateTime from = occurrences.get(0).startTime();
+        LocalDateTime to = occurrences.get(occurrences.size() - 1).endTime();
+        List<ScheduleIntervalTree.Entry> candidates =
+                scheduleRepository.findOverlapping(userId, from, to, from.minusDays(Schedule.SHORT_SPAN_DAYS)).stream()
+                        .filter(other -> !other.getId().equals(schedule.getId())) // 수정 중인 자기 자신
+                        .map(ScheduleIntervalTree.Entry::of)
+                        .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        ScheduleIntervalTree tree = new ScheduleIntervalTree(candidates);
+
+        for (Schedule.Occurrence occurrence : occurrences) {
+            for (ScheduleIntervalTree.Entry entry : tree.overlapping(occurrence.startTime(), occurrence.endTime())) {
+                Iterator<Schedule.Occurrence> conflicts = entry.occurrences(occurrence.startTime(), occurrence.endTime());
+                if (conflicts.hasNext()) {
+                    throw new ScheduleConflictException(entry.title(), conflicts.next().startTime());
+                }
+            }
+        }
+    }
+
+    private boolean changesTime(ScheduleDto.UpdateRequest requestDto) {
+        return requestDto.getStartTime() != null || requestDto.getEndTime() != null
+                || requestDto.getRecurrenceFrequency() != null || requestDto.getRecurrenceExceptions() != null
+                || Boolean.TRUE.equals(requestDto.getRemoveRecurrence());
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("일정은 최대 " + MAX_RANGE_DAYS + "일 범위까지 조회할 수 있습니다.");
+        }
+    }
+
+    // 반복 규칙 검증 후 설정
+    private void applyRecurrence(Schedule schedule, Schedule.Frequency frequency, Integer interval,
+                                 LocalDateTime until, List<LocalDate> exceptions) {
+        int recurrenceInterval = interval != null ? interval : 1;
+        if (recurrenceInterval < 1) {
+            throw new InvalidRequestException("반복 간격은 1 이상이어야 합니다.");
+        }
+        if (until != null && until.isBefore(schedule.getStartTime())) {
+            throw new InvalidRequestException("반복 종료 시각은 일정 시작 시각 이후여야 합니다.");
+        }
+        schedule.updateRecurrence(frequency, recurrenceInterval, until, exceptions);
+    }
+
+    // 반복 규칙 도입 이전 일정의 series_end_time 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSeriesEndTime() {
+        int rows = scheduleRepository.backfillSeriesEndTime();
+        if (rows > 0) {
+            log.info("일정 기간 조회 컬럼 초기화 완료: {}건", rows);
+        }
+    }
+
     // 일정 삭제
     public void deleteSchedule(Long scheduleId) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new ScheduleNotFoundException(scheduleId));
         scheduleRepository.delete(schedule);
+        if (schedule.getUser() != null) {
+            scheduleIntervalCache.invalidate(schedule.getUser().getId());
+        }
     }
 }
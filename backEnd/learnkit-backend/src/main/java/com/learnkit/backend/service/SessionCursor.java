@@ -0,0 +1,59 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 학습 세션 목록/타임라인 키셋 커서
+ * 마지막으로 내려준 항목의 (시작 시간, 세션 종류, ID)를 불투명한 문자열로 인코딩함
+ * 정렬 순서: startedAt 내림차순 → 같은 시각이면 GOAL, WORDBOOK 순 → id 내림차순
+ */
+record SessionCursor(LocalDateTime startedAt, String type, Integer id) {
+
+    static final String GOAL = "GOAL";
+    static final String WORDBOOK = "WORDBOOK";
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 페이지 크기 검증 (1 ~ 100)
+     */
+    static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    String encode() {
+        String raw = startedAt + "|" + type + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SessionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !(GOAL.equals(parts[1]) || WORDBOOK.equals(parts[1]))) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            return new SessionCursor(LocalDateTime.parse(parts[0]), parts[1], Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서와 같은 시각인 세션 중 다음 페이지에 포함할 ID 상한 (id < 상한)
+     * 같은 종류면 커서 ID, 커서보다 앞 순서의 종류면 0(모두 제외), 뒤 순서의 종류면 최대값(모두 포함)
+     */
+    int idBoundFor(String sessionType) {
+        if (type.equals(sessionType)) {
+            return id;
+        }
+        return GOAL.equals(sessionType) ? 0 : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.learnkit.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 방치된 진행 중 세션 정리 작업
+ * 앱이 강제 종료되어 endSession이 호출되지 않은 세션은 계속 진행 중으로 남아 새 세션 시작을 막으므로,
+ * 일정 시간 이상 변화가 없는 세션을 학습 시간을 제한하여 종료함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleSessionSweepJob {
+
+    private final GoalStudySessionService goalStudySessionService;
+    private final WordBookStudySessionService wordBookStudySessionService;
+
+    @Value("${learnkit.stale-session.max-idle-hours:12}")
+    private int maxIdleHours;
+
+    @Value("${learnkit.stale-session.max-duration-minutes:240}")
+    private int maxDurationMinutes;
+
+    @Value("${learnkit.stale-session.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 주기적으로 실행, 묶음마다 별도 트랜잭션으로 처리하여 긴 트랜잭션/락을 피함
+     */
+    @Scheduled(fixedDelayString = "${learnkit.stale-session.sweep-interval-ms:600000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(maxIdleHours);
+
+        int goalSessions = closeAll(size -> goalStudySessionService.closeStaleSessions(cutoff, maxDurationMinutes, size));
+        int wordBookSessions = closeAll(size -> wordBookStudySessionService.closeStaleSessions(cutoff, maxDurationMinutes, size));
+
+        if (goalSessions + wordBookSessions > 0) {
+            log.info("방치된 세션 종료: 목표 {}건, 단어장 {}건 (기준 시점 {})", goalSessions, wordBookSessions, cutoff);
+        }
+    }
+
+    private int closeAll(IntUnaryOperator closeBatch) {
+        int total = 0;
+        int closed;
+        do {
+            closed = closeBatch.applyAsInt(batchSize);
+            total += closed;
+        } while (closed == batchSize);
+        return total;
+    }
+}
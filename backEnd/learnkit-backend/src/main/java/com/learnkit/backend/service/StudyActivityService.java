@@ -0,0 +1,177 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.domain.StudyCalendar;
+import com.learnkit.backend.domain.WordBookStudySession;
+import com.learnkit.backend.repository.DailyStudySummaryRepository;
+import com.learnkit.backend.repository.StudyCalendarRepository;
+import com.learnkit.backend.repository.UserRepository;
+import com.learnkit.backend.repository.WordBookStudySessionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학습 활동 집계 서비스
+ * 세션이 종료(또는 종료된 세션이 삭제)될 때 일일 학습 요약(daily_study_summaries)에 누적하여
+ * 장기 통계가 세션 원본을 다시 읽지 않도록 함
+ * 학습한 날은 연간 학습 달력(study_calendars) 비트셋에도 함께 표시함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StudyActivityService {
+
+    private final DailyStudySummaryRepository dailyStudySummaryRepository;
+    private final StudyCalendarRepository studyCalendarRepository;
+    private final UserRepository userRepository;
+    private final WordBookStudySessionRepository wordBookStudySessionRepository;
+    private final WeeklyHistoryCache weeklyHistoryCache;
+
+    /**
+     * 종료된 목표 학습 세션 반영
+     */
+    public void addGoalSession(GoalStudySession session) {
+        applyGoalSession(session, 1);
+    }
+
+    /**
+     * 삭제되는 목표 학습 세션 반영 취소 (종료된 세션만 집계되어 있음)
+     */
+    public void removeGoalSession(GoalStudySession session) {
+        if (!session.isInProgress()) {
+            applyGoalSession(session, -1);
+        }
+    }
+
+    /**
+     * 종료된 단어장 학습 세션 반영
+     */
+    public void addWordBookSession(WordBookStudySession session) {
+        applyWordBookSession(session, 1);
+    }
+
+    /**
+     * 삭제되는 단어장 학습 세션 반영 취소 (종료된 세션만 집계되어 있음)
+     */
+    public void removeWordBookSession(WordBookStudySession session) {
+        if (!session.isInProgress()) {
+            applyWordBookSession(session, -1);
+        }
+    }
+
+    private void applyGoalSession(GoalStudySession session, int sign) {
+        Long userId = session.getUser().getId();
+        LocalDate studyDate = session.getStartedAt().toLocalDate();
+
+        dailyStudySummaryRepository.addGoalSession(
+                userId, studyDate, sign,
+                sign * session.getDurationMinutes(),
+                sign * session.getPomoCount(),
+                sign * session.getAchievedAmount(),
+                LocalDateTime.now());
+        updateCalendar(userId, studyDate, sign);
+
+        AfterCommit.run(() -> weeklyHistoryCache.evict(userId, studyDate));
+    }
+
+    private void applyWordBookSession(WordBookStudySession session, int sign) {
+        Long userId = session.getUser().getId();
+        LocalDate studyDate = session.getStartedAt().toLocalDate();
+
+        dailyStudySummaryRepository.addWordBookSession(
+                userId, studyDate, sign,
+                sign * session.getDurationMinutes(),
+                sign * (session.getEndHardCount() - session.getStartHardCount()),
+                sign * (session.getEndNormalCount() - session.getStartNormalCount()),
+                sign * (session.getEndEasyCount() - session.getStartEasyCount()),
+                LocalDateTime.now());
+        updateCalendar(userId, studyDate, sign);
+
+        AfterCommit.run(() -> weeklyHistoryCache.evict(userId, studyDate));
+    }
+
+    // 추가면 학습한 날로 표시, 취소면 그 날 남은 세션이 없을 때만 표시 해제
+    private void updateCalendar(Long userId, LocalDate studyDate, int sign) {
+        if (sign > 0) {
+            // 행을 먼저 보장한 뒤 잠가서 읽음 (첫 세션이 동시에 끝나도 한쪽이 중복 키로 실패하지 않음)
+            studyCalendarRepository.createIfAbsent(userId, studyDate.getYear(),
+                    new byte[StudyCalendar.BYTE_LENGTH], LocalDateTime.now());
+            studyCalendarRepository.findForUpdate(userId, studyDate.getYear())
+                    .orElseThrow()
+                    .markStudied(studyDate);
+            return;
+        }
+
+        Integer remainingSessions = dailyStudySummaryRepository.countSessionsOn(userId, studyDate);
+        if (remainingSessions == null || remainingSessions <= 0) {
+            studyCalendarRepository.findForUpdate(userId, studyDate.getYear())
+                    .ifPresent(calendar -> calendar.clearStudied(studyDate));
+        }
+    }
+
+    /**
+     * 집계 테이블 도입 이전 데이터 채우기
+     * 단어장 세션 학습 시간 → 일일 요약 → 학습 달력 순서로, 비어 있는 값/테이블만 채움
+     * 다른 시작 작업이 요약을 먼저 채우면 비어 있지 않은 것으로 보고 건너뛰므로 가장 먼저 실행
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        int durationRows = wordBookStudySessionRepository.backfillDurationMinutes();
+        if (durationRows > 0) {
+            log.info("단어장 학습 세션 학습 시간 초기화 완료: {}건", durationRows);
+        }
+        backfillSummariesIfEmpty();
+        backfillCalendarsIfEmpty();
+    }
+
+    // 일일 요약이 비어 있으면 기존 세션 기록으로 채움
+    private void backfillSummariesIfEmpty() {
+        if (dailyStudySummaryRepository.count() > 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int goalRows = dailyStudySummaryRepository.backfillGoalSessions(now);
+        int wordBookRows = dailyStudySummaryRepository.backfillWordBookSessions(now);
+        if (goalRows + wordBookRows > 0) {
+            log.info("일일 학습 요약 초기화 완료: 목표 {}행, 단어장 {}행", goalRows, wordBookRows);
+        }
+    }
+
+    // 학습 달력이 비어 있으면 일일 요약으로 채움
+    private void backfillCalendarsIfEmpty() {
+        if (studyCalendarRepository.count() > 0) {
+            return;
+        }
+
+        Map<Long, Map<Integer, StudyCalendar>> calendars = new HashMap<>();
+        for (DailyStudySummaryRepository.StudyDay day : dailyStudySummaryRepository.findAllStudyDays()) {
+            int year = day.getStudyDate().getYear();
+            calendars.computeIfAbsent(day.getUserId(), id -> new HashMap<>())
+                    .computeIfAbsent(year, y -> new StudyCalendar(userRepository.getReferenceById(day.getUserId()), y))
+                    .markStudied(day.getStudyDate());
+        }
+
+        List<StudyCalendar> created = calendars.values().stream()
+                .flatMap(byYear -> byYear.values().stream())
+                .toList();
+        studyCalendarRepository.saveAll(created);
+        if (!created.isEmpty()) {
+            log.info("학습 달력 초기화 완료: {}건", created.size());
+        }
+    }
+}
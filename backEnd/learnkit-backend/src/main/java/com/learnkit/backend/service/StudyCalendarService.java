@@ -0,0 +1,141 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.DailyStudySummary;
+import com.learnkit.backend.domain.StudyCalendar;
+import com.learnkit.backend.dto.StudyCalendarDto;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+import com.learnkit.backend.repository.DailyStudySummaryRepository;
+import com.learnkit.backend.repository.StudyCalendarRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 달력 서비스
+ * 연간 비트셋(study_calendars)으로 히트맵과 연속 학습 일수를 계산하고,
+ * 날짜별 학습 시간은 일일 학습 요약에서 채움
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StudyCalendarService {
+
+    static final int MIN_YEAR = 2000; // 조회할 수 있는 가장 이른 연도 (최대는 내년)
+
+    private final StudyCalendarRepository studyCalendarRepository;
+    private final DailyStudySummaryRepository dailyStudySummaryRepository;
+
+    /**
+     * 연간 학습 달력 조회
+     *
+     * @param userId 사용자 ID
+     * @param year 조회 연도 (null이면 올해, MIN_YEAR ~ 내년)
+     */
+    public StudyCalendarDto.Response getCalendar(Long userId, Integer year) {
+        LocalDate today = LocalDate.now();
+        int targetYear = year != null ? year : today.getYear();
+        // 범위를 벗어난 연도는 날짜 계산에서 DateTimeException(500)이 나므로 먼저 거름
+        if (targetYear < MIN_YEAR || targetYear > today.getYear() + 1) {
+            throw new InvalidRequestException(
+                    "조회 연도는 " + MIN_YEAR + "년부터 " + (today.getYear() + 1) + "년까지입니다: " + targetYear);
+        }
+
+        BitSet studied = loadYear(userId, targetYear);
+
+        // 학습한 날의 학습 시간 (일일 요약 최대 366행)
+        Map<LocalDate, Integer> minutesByDate = dailyStudySummaryRepository
+                .findByUserIdAndStudyDateBetweenOrderByStudyDate(userId,
+                        LocalDate.ofYearDay(targetYear, 1), Year.of(targetYear).atMonth(12).atEndOfMonth())
+                .stream()
+                .collect(Collectors.toMap(DailyStudySummary::getStudyDate,
+                        summary -> summary.getPomodoroMinutes() + summary.getWordBookMinutes()));
+
+        List<StudyCalendarDto.Day> days = new ArrayList<>();
+        for (int index = studied.nextSetBit(0); index >= 0; index = studied.nextSetBit(index + 1)) {
+            LocalDate date = LocalDate.ofYearDay(targetYear, index + 1);
+            days.add(new StudyCalendarDto.Day(date, minutesByDate.getOrDefault(date, 0)));
+        }
+
+        BitSet thisYear = targetYear == today.getYear() ? studied : loadYear(userId, today.getYear());
+
+        return new StudyCalendarDto.Response(
+                targetYear,
+                studied.cardinality(),
+                currentStreak(userId, today, thisYear),
+                longestStreak(studied),
+                days
+        );
+    }
+
+    private BitSet loadYear(Long userId, int year) {
+        return studyCalendarRepository.findByUserIdAndYear(userId, year)
+                .map(StudyCalendar::toBitSet)
+                .orElseGet(BitSet::new);
+    }
+
+    /**
+     * 현재 연속 학습 일수
+     * 오늘 아직 학습하지 않았으면 어제까지의 기록을 이어서 계산하며,
+     * 1월 1일까지 이어지면 전년도 달력으로 넘어가서 계속 셈
+     */
+    private int currentStreak(Long userId, LocalDate today, BitSet thisYear) {
+        int year = today.getYear();
+        BitSet days = thisYear;
+        int index = today.getDayOfYear() - 1;
+        if (!days.get(index)) {
+            index--;
+        }
+
+        int streak = 0;
+        Iterator<StudyCalendar> previousYears = null;
+        while (true) {
+            if (index >= 0) {
+                if (!days.get(index)) {
+                    return streak;
+                }
+                int runStart = days.previousClearBit(index) + 1;
+                streak += index - runStart + 1;
+                if (runStart > 0) {
+                    return streak;
+                }
+            }
+
+            // 1월 1일까지 이어짐 → 전년도 12월 31일부터 계속
+            if (previousYears == null) {
+                previousYears = studyCalendarRepository.findByUserIdAndYearLessThanOrderByYearDesc(userId, year).iterator();
+            }
+            if (!previousYears.hasNext()) {
+                return streak;
+            }
+            StudyCalendar previous = previousYears.next();
+            if (previous.getYear() != year - 1) {
+                return streak; // 달력이 없는 해 = 학습 기록 없음
+            }
+            year = previous.getYear();
+            days = previous.toBitSet();
+            index = Year.of(year).length() - 1;
+        }
+    }
+
+    /**
+     * 해당 연도 안에서 가장 긴 연속 학습 구간
+     */
+    private int longestStreak(BitSet days) {
+        int longest = 0;
+        for (int start = days.nextSetBit(0); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = days.nextSetBit(end);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,208 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.Goal;
+import com.learnkit.backend.domain.GoalPace;
+import com.learnkit.backend.dto.StudyPlanDto;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+import com.learnkit.backend.repository.GoalPaceRepository;
+import com.learnkit.backend.repository.GoalRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 계획 서비스
+ * 진행 중인 목표의 남은 분량을 하루 필요 시간으로 나누고, 일정 사이의 빈 시간에 마감이 빠른 목표부터 배치함
+ * 빈 시간은 일정 구간 트리 캐시에서 기간 전체를 한 번에 구한 뒤(sweep line), 날짜별 학습 가능 시간대로 잘라 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StudyPlanService {
+
+    static final int MAX_PLAN_DAYS = 31;
+
+    private final GoalRepository goalRepository;
+    private final GoalPaceRepository goalPaceRepository;
+    private final ScheduleIntervalCache scheduleIntervalCache;
+
+    @Value("${learnkit.study-plan.day-start-hour:9}")
+    private int dayStartHour;
+
+    @Value("${learnkit.study-plan.day-end-hour:22}")
+    private int dayEndHour;
+
+    @Value("${learnkit.study-plan.default-minutes-per-unit:10}")
+    private double defaultMinutesPerUnit;
+
+    @Value("${learnkit.study-plan.min-block-minutes:15}")
+    private int minBlockMinutes;
+
+    /**
+     * 학습 계획 생성 (저장하지 않고 매번 계산)
+     * 조회만 하므로 트랜잭션 없이 실행 (일정 구간 트리를 캐시할 수 있도록)
+     *
+     * @param userId 사용자 ID
+     * @param from 계획 시작 날짜
+     * @param days 계획 일수 (1 ~ 31)
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public StudyPlanDto.Response plan(Long userId, LocalDate from, int days) {
+        if (days < 1 || days > MAX_PLAN_DAYS) {
+            throw new InvalidRequestException("계획 기간은 1일 이상 " + MAX_PLAN_DAYS + "일 이하여야 합니다.");
+        }
+        LocalDate to = from.plusDays(days); // 미포함
+        LocalDate lastDay = to.minusDays(1);
+
+        // 계획 기간과 겹치고 남은 분량이 있는 목표 (마감이 빠른 순, 마감 없는 목표는 마지막)
+        List<Goal> openGoals = goalRepository.findByUserIdAndIsCompleted(userId, false).stream()
+                .filter(goal -> goal.getCurrentProgress() < goal.getTotalTargetAmount())
+                .filter(goal -> goal.getEndDate() == null || !goal.getEndDate().isBefore(from))
+                .filter(goal -> goal.getStartDate() == null || goal.getStartDate().isBefore(to))
+                .sorted(Comparator.comparing(Goal::getEndDate, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        // 목표별 단위당 소요 시간 = 세션 종료 때마다 갱신한 지수 가중 평균 (기록이 없으면 기본값)
+        Map<Integer, GoalPace> paces = goalPaceRepository.findAllById(openGoals.stream().map(Goal::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(GoalPace::getGoalId, pace -> pace));
+        List<GoalLoad> loads = openGoals.stream()
+                .map(goal -> new GoalLoad(goal, minutesPerUnit(paces.get(goal.getId()))))
+                .toList();
+
+        List<ScheduleIntervalTree.Interval> free = scheduleIntervalCache.tree(userId)
+                .freeIntervals(from.atStartOfDay(), to.atStartOfDay());
+
+        List<StudyPlanDto.Block> blocks = new ArrayList<>();
+        int index = 0;
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            LocalDateTime windowStart = date.atStartOfDay().plusHours(dayStartHour);
+            LocalDateTime windowEnd = date.atStartOfDay().plusHours(dayEndHour);
+
+            // 빈 구간도 날짜도 시간순이므로, 오늘 시간대 전에 끝난 구간은 다시 보지 않음
+            while (index < free.size() && !free.get(index).endTime().isAfter(windowStart)) {
+                index++;
+            }
+            List<ScheduleIntervalTree.Interval> dayFree = new ArrayList<>();
+            for (int i = index; i < free.size() && free.get(i).startTime().isBefore(windowEnd); i++) {
+                LocalDateTime start = max(free.get(i).startTime(), windowStart);
+                LocalDateTime end = min(free.get(i).endTime(), windowEnd);
+                if (Duration.between(start, end).toMinutes() >= minBlockMinutes) {
+                    dayFree.add(new ScheduleIntervalTree.Interval(start, end));
+                }
+            }
+
+            allocateDay(date, lastDay, dayFree, loads, blocks);
+        }
+
+        List<StudyPlanDto.GoalPlan> goals = loads.stream()
+                .map(load -> new StudyPlanDto.GoalPlan(load.goal.getId(), load.goal.getTitle(),
+                        load.goal.getTargetUnit(), load.goal.getTotalTargetAmount() - load.goal.getCurrentProgress(),
+                        load.minutesPerUnit, load.plannedMinutes, shortfallMinutes(load, from, lastDay)))
+                .toList();
+        return new StudyPlanDto.Response(from, lastDay, goals, blocks);
+    }
+
+    // 하루 필요 시간 = 남은 시간 / 마감까지 남은 일수 (마감이 없으면 계획 마지막 날을 마감으로 봄)
+    // 빈 구간을 앞에서부터 채우므로 마감이 빠른 목표가 이른 시간을 차지함
+    private void allocateDay(LocalDate date, LocalDate lastDay, List<ScheduleIntervalTree.Interval> dayFree,
+                             List<GoalLoad> loads, List<StudyPlanDto.Block> blocks) {
+        int slot = 0;
+        LocalDateTime cursor = dayFree.isEmpty() ? null : dayFree.get(0).startTime();
+
+        for (GoalLoad load : loads) {
+            if (load.remainingMinutes <= 0 || !load.isActiveOn(date)) {
+                continue;
+            }
+            LocalDate dueDate = load.goal.getEndDate() != null ? load.goal.getEndDate() : lastDay;
+            if (dueDate.isBefore(date)) {
+                // 마감이 지난 목표는 더 배치하지 않음 (마감일까지 배치하지 못한 시간이 부족분)
+                continue;
+            }
+            long daysLeft = ChronoUnit.DAYS.between(date, dueDate) + 1;
+            long need = (load.remainingMinutes + daysLeft - 1) / daysLeft;
+
+            while (need > 0 && slot < dayFree.size()) {
+                long available = Duration.between(cursor, dayFree.get(slot).endTime()).toMinutes();
+                if (available < Math.min(need, minBlockMinutes)) {
+                    // 남은 틈이 너무 짧으면 다음 빈 구간으로
+                    slot++;
+                    cursor = slot < dayFree.size() ? dayFree.get(slot).startTime() : null;
+                    continue;
+                }
+                long minutes = Math.min(need, available);
+                LocalDateTime end = cursor.plusMinutes(minutes);
+                blocks.add(new StudyPlanDto.Block(load.goal.getId(), load.goal.getTitle(), cursor, end, minutes));
+
+                load.plannedMinutes += minutes;
+                load.remainingMinutes -= minutes;
+                need -= minutes;
+                cursor = end;
+            }
+            // 오늘 배치하지 못한 필요량은 남은 시간에 그대로 남아 다음 날 필요량에 다시 나뉨
+        }
+    }
+
+    // 부족분 = 마감일(마감이 없으면 계획 마지막 날)까지 배치하지 못하고 남은 시간
+    // 마감이 계획 기간 뒤인 목표는 처음 남은 시간을 마감까지 고르게 나눴을 때 기간 이후 몫을 빼고 계산
+    private long shortfallMinutes(GoalLoad load, LocalDate from, LocalDate lastDay) {
+        LocalDate dueDate = load.goal.getEndDate();
+        if (dueDate == null || !dueDate.isAfter(lastDay)) {
+            return load.remainingMinutes;
+        }
+        LocalDate startDate = load.goal.getStartDate();
+        LocalDate start = startDate != null && startDate.isAfter(from) ? startDate : from;
+        long totalDays = ChronoUnit.DAYS.between(start, dueDate) + 1;
+        long daysAfter = ChronoUnit.DAYS.between(lastDay, dueDate);
+        long owedAfter = load.initialMinutes * daysAfter / totalDays;
+        return Math.max(0, load.remainingMinutes - owedAfter);
+    }
+
+    private double minutesPerUnit(GoalPace pace) {
+        if (pace == null || pace.getMinutesPerUnit() == null || pace.getMinutesPerUnit() <= 0) {
+            return defaultMinutesPerUnit;
+        }
+        return pace.getMinutesPerUnit();
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // 계획 중인 목표 하나의 남은 시간과 배치 결과
+    private static final class GoalLoad {
+
+        private final Goal goal;
+        private final double minutesPerUnit;
+        private final long initialMinutes;
+        private long remainingMinutes;
+        private long plannedMinutes;
+
+        GoalLoad(Goal goal, double minutesPerUnit) {
+            this.goal = goal;
+            this.minutesPerUnit = minutesPerUnit;
+            this.initialMinutes =
+                    (long) Math.ceil((goal.getTotalTargetAmount() - goal.getCurrentProgress()) * minutesPerUnit);
+            this.remainingMinutes = initialMinutes;
+        }
+
+        boolean isActiveOn(LocalDate date) {
+            return goal.getStartDate() == null || !goal.getStartDate().isAfter(date);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.domain.WordBookStudySession;
+import com.learnkit.backend.dto.StudyTimelineDto;
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import com.learnkit.backend.repository.WordBookStudySessionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학습 타임라인 서비스
+ * 목표 학습 세션과 단어장 학습 세션을 시작 시간 최신순으로 합쳐서 페이지 단위로 제공
+ * 각 테이블에서 커서 이후 (페이지 크기 + 1)건만 읽어 병합하므로 전체 기록 양과 무관하게 일정한 비용으로 조회됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StudyTimelineService {
+
+    private final GoalStudySessionRepository goalStudySessionRepository;
+    private final WordBookStudySessionRepository wordBookStudySessionRepository;
+
+    /**
+     * 학습 타임라인 한 페이지 조회
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public StudyTimelineDto.PageResponse getTimeline(Long userId, String cursor, int size) {
+        SessionCursor.checkPageSize(size);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<GoalStudySession> goalSessions;
+        List<WordBookStudySession> wordBookSessions;
+
+        if (cursor == null || cursor.isBlank()) {
+            goalSessions = goalStudySessionRepository.findPageByUserId(userId, limit);
+            wordBookSessions = wordBookStudySessionRepository.findPageByUserId(userId, limit);
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            goalSessions = goalStudySessionRepository.findPageByUserIdAfter(
+                    userId, after.startedAt(), after.idBoundFor(SessionCursor.GOAL), limit);
+            wordBookSessions = wordBookStudySessionRepository.findPageByUserIdAfter(
+                    userId, after.startedAt(), after.idBoundFor(SessionCursor.WORDBOOK), limit);
+        }
+
+        // 두 목록 모두 같은 순서로 정렬되어 있으므로 앞에서부터 비교하며 병합 (같은 시각이면 목표 세션 먼저)
+        List<StudyTimelineDto.Item> items = new ArrayList<>(size);
+        int goalIndex = 0;
+        int wordBookIndex = 0;
+        while (items.size() < size
+                && (goalIndex < goalSessions.size() || wordBookIndex < wordBookSessions.size())) {
+            boolean takeGoal = wordBookIndex >= wordBookSessions.size()
+                    || (goalIndex < goalSessions.size()
+                        && !goalSessions.get(goalIndex).getStartedAt()
+                            .isBefore(wordBookSessions.get(wordBookIndex).getStartedAt()));
+
+            items.add(takeGoal
+                    ? new StudyTimelineDto.Item(goalSessions.get(goalIndex++))
+                    : new StudyTimelineDto.Item(wordBookSessions.get(wordBookIndex++)));
+        }
+
+        boolean hasMore = goalIndex < goalSessions.size() || wordBookIndex < wordBookSessions.size();
+        String nextCursor = null;
+        if (hasMore) {
+            StudyTimelineDto.Item last = items.get(items.size() - 1);
+            nextCursor = new SessionCursor(last.getStartedAt(), last.getType(), last.getId()).encode();
+        }
+
+        return new StudyTimelineDto.PageResponse(items, nextCursor);
+    }
+}
@@ -2,6 +2,7 @@ package com.learnkit.backend.service;
 
 import com.learnkit.backend.domain.User;
 import com.learnkit.backend.dto.UserDto;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
 import com.learnkit.backend.exception.custom.UserNotFoundException;
 import com.learnkit.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
@@ -14,6 +15,8 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final AppLaunchService appLaunchService;
+    private final ReminderDispatcher reminderDispatcher;
 
     // ID로 사용자 조회
     public UserDto.Response findUserById(Long userId) {
@@ -59,6 +62,31 @@ public class UserService {
         return new UserDto.Response(user);
     }
 
+    // 푸시 토큰 등록 (학습 알림 시각은 최근 앱 실행 피크 시간대 1시간 전)
+    // 알림 예약은 커밋 후에 반영
+    public void registerPushToken(Long userId, UserDto.PushTokenRequest requestDto) {
+        String pushToken = requestDto.getPushToken();
+        if (pushToken == null || pushToken.isBlank()) {
+            throw new InvalidRequestException("푸시 토큰이 비어 있습니다.");
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        int reminderHour = appLaunchService.calculatePeakHours(userId).getSuggestedReminderTime().getHour();
+        user.updatePushToken(pushToken, reminderHour);
+
+        AfterCommit.run(() -> reminderDispatcher.register(userId, pushToken, reminderHour));
+    }
+
+    // 푸시 토큰 해제 (학습 알림 중단)
+    public void removePushToken(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        user.updatePushToken(null, null);
+
+        AfterCommit.run(() -> reminderDispatcher.unregister(userId));
+    }
+
     // 비밀번호 변경 (Security 비활성화로 인해 평문 저장)
     public void changePassword(Long userId, UserDto.ChangePasswordRequest requestDto) {
         // 1. DB에서 사용자를 찾아옵니다.
@@ -0,0 +1,44 @@
+package com.learnkit.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 푸시 게이트웨이로 알림을 보내는 클라이언트 (WebClient, 논블로킹)
+ * 알림 한 건을 JSON({token, title, body})으로 POST하고 2xx가 아니면 실패로 처리함
+ */
+@Component
+@ConditionalOnProperty(name = "learnkit.reminder.push.transport", havingValue = "http")
+public class WebClientPushClient implements PushClient {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public WebClientPushClient(WebClient.Builder webClientBuilder,
+                               @Value("${learnkit.reminder.push.url}") String url,
+                               @Value("${learnkit.reminder.push.auth-token:}") String authToken,
+                               @Value("${learnkit.reminder.push.timeout-ms:5000}") long timeoutMillis) {
+        WebClient.Builder builder = webClientBuilder.baseUrl(url);
+        if (!authToken.isBlank()) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + authToken);
+        }
+        this.webClient = builder.build();
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @Override
+    public Mono<Void> send(PushMessage message) {
+        return webClient.post()
+                .bodyValue(message)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(timeout)
+                .then();
+    }
+}
@@ -0,0 +1,73 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.WeeklyCardBaselineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이번 주 카드 기준선이 이미 생성된 사용자 ID를 메모리에 보관
+ * 앱 실행마다 weekly_card_baselines 존재 여부를 DB에 묻지 않도록 먼저 확인하는 용도
+ * 주차가 바뀌면 해당 주차의 사용자 목록을 DB에서 한 번 읽어 새 집합으로 교체함
+ */
+@Component
+@RequiredArgsConstructor
+public class WeeklyBaselineRegistry {
+
+    private final WeeklyCardBaselineRepository weeklyCardBaselineRepository;
+
+    private volatile WeekUsers current = new WeekUsers(0, 0, 0, ConcurrentHashMap.newKeySet());
+
+    /**
+     * 서버 시작 시 이번 주 기준선이 있는 사용자 목록을 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        int weekNumber = WeeklyStatsService.getWeekOfMonth(today);
+        weekUsers(today.getYear(), today.getMonthValue(), weekNumber);
+    }
+
+    /**
+     * 해당 주차 기준선이 이미 있는 사용자인지 확인
+     */
+    public boolean contains(Long userId, int year, int month, int weekNumber) {
+        return weekUsers(year, month, weekNumber).userIds().contains(userId);
+    }
+
+    /**
+     * 해당 주차 기준선이 생성(또는 DB에서 확인)된 사용자로 기록
+     */
+    public void add(Long userId, int year, int month, int weekNumber) {
+        weekUsers(year, month, weekNumber).userIds().add(userId);
+    }
+
+    // 주차가 바뀌었으면 새 주차의 사용자 목록을 DB에서 읽어 교체
+    private WeekUsers weekUsers(int year, int month, int weekNumber) {
+        WeekUsers snapshot = current;
+        if (snapshot.matches(year, month, weekNumber)) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            if (!current.matches(year, month, weekNumber)) {
+                Set<Long> userIds = ConcurrentHashMap.newKeySet();
+                userIds.addAll(weeklyCardBaselineRepository.findUserIdsByWeek(year, month, weekNumber));
+                current = new WeekUsers(year, month, weekNumber, userIds);
+            }
+            return current;
+        }
+    }
+
+    private record WeekUsers(int year, int month, int weekNumber, Set<Long> userIds) {
+
+        boolean matches(int year, int month, int weekNumber) {
+            return this.year == year && this.month == month && this.weekNumber == weekNumber;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.dto.WeeklyStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지난 주차의 주간 요약 캐시
+ * 끝난 주는 결과가 바뀌지 않으므로 한 번 계산한 요약을 재사용하고,
+ * 지난 날짜의 세션이 종료/삭제되어 요약이 바뀌면 (커밋 후) 해당 주만 무효화함
+ * 요약을 계산하기 전에 읽은 세대가 저장 시점과 다르면 (계산 중 무효화되어 오래된 값일 수 있으므로) 저장하지 않음
+ * 세대도 사용자 수만큼 쌓이지 않도록 같은 크기로 제한하고, 지운 사용자는 지운 세대 중 최대값을 세대로 봄
+ * (세대는 전역 순번이라 지운 뒤 읽은 세대가 지우기 전에 읽은 값과 같아질 수 없으므로, 진행 중인 계산은 저장되지 않을 뿐 틀린 값이 남지 않음)
+ */
+@Component
+public class WeeklyHistoryCache {
+
+    private final ConcurrentHashMap<Long, Map<LocalDate, WeeklyStatsDto.WeekSummary>> finishedWeeks =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> generations = new ConcurrentHashMap<>(); // 마지막 무효화 순번
+    private final AtomicLong invalidations = new AtomicLong();      // 무효화 순번 (전역)
+    private final AtomicLong evictedGeneration = new AtomicLong();  // 크기 제한으로 지운 세대 중 최대값
+
+    @Value("${learnkit.weekly-history.cache-size:10000}")
+    private int maxCachedUsers;
+
+    public WeeklyStatsDto.WeekSummary get(Long userId, LocalDate weekStart) {
+        Map<LocalDate, WeeklyStatsDto.WeekSummary> weeks = finishedWeeks.get(userId);
+        return weeks != null ? weeks.get(weekStart) : null;
+    }
+
+    /**
+     * 사용자의 현재 세대 (요약을 계산하기 위해 조회하기 전에 읽어 putAll에 넘김)
+     */
+    public long generation(Long userId) {
+        return generations.getOrDefault(userId, evictedGeneration.get());
+    }
+
+    /**
+     * 계산한 지난 주 요약 저장
+     *
+     * @param generation 조회 전에 읽은 세대 (그 사이 무효화되었으면 저장하지 않음)
+     */
+    public void putAll(Long userId, long generation, List<WeeklyStatsDto.WeekSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        if (!finishedWeeks.containsKey(userId)) {
+            evictIfFull();
+        }
+        finishedWeeks.compute(userId, (id, weeks) -> {
+            if (generation(userId) != generation) {
+                return weeks;
+            }
+            Map<LocalDate, WeeklyStatsDto.WeekSummary> updated = weeks != null ? weeks : new ConcurrentHashMap<>();
+            summaries.forEach(summary -> updated.put(summary.getWeekStart(), summary));
+            return updated;
+        });
+    }
+
+    /**
+     * 특정 날짜가 속한 주의 캐시 제거 (세대를 올려 진행 중인 계산 결과도 저장되지 않게 함)
+     */
+    public void evict(Long userId, LocalDate date) {
+        LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        finishedWeeks.compute(userId, (id, weeks) -> {
+            if (!generations.containsKey(userId)) {
+                evictGenerationIfFull();
+            }
+            generations.put(userId, invalidations.incrementAndGet());
+            if (weeks != null) {
+                weeks.remove(weekStart);
+            }
+            return weeks;
+        });
+    }
+
+    // 세대 수 제한: 가득 차면 임의의 사용자 하나의 세대를 지우고, 그 세대까지를 지운 사용자들의 세대로 올림
+    private void evictGenerationIfFull() {
+        if (generations.size() < maxCachedUsers) {
+            return;
+        }
+        Iterator<Map.Entry<Long, Long>> iterator = generations.entrySet().iterator();
+        if (iterator.hasNext()) {
+            // 지운 사용자의 세대가 예전 값으로 내려가지 않도록 최대값을 먼저 올리고 지움
+            evictedGeneration.accumulateAndGet(iterator.next().getValue(), Math::max);
+            iterator.remove();
+        }
+    }
+
+    // 캐시 크기 제한: 가득 차면 임의의 사용자 하나를 제거 (다음 조회 때 다시 계산됨)
+    private void evictIfFull() {
+        if (finishedWeeks.size() < maxCachedUsers) {
+            return;
+        }
+        Iterator<Long> iterator = finishedWeeks.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
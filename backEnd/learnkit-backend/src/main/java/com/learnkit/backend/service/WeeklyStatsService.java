@@ -2,6 +2,7 @@ package com.learnkit.backend.service;
 
 import com.learnkit.backend.domain.*;
 import com.learnkit.backend.dto.WeeklyStatsDto;
+import com.learnkit.backend.exception.custom.InvalidRequestException;
 import com.learnkit.backend.repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -9,12 +10,15 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +37,11 @@ public class WeeklyStatsService {
     private final CardRepository cardRepository;
     private final GoalRepository goalRepository;
     private final UserRepository userRepository;
+    private final WeeklyBaselineRegistry weeklyBaselineRegistry;
+    private final DailyStudySummaryRepository dailyStudySummaryRepository;
+    private final WeeklyHistoryCache weeklyHistoryCache;
+
+    private static final int MAX_HISTORY_WEEKS = 104; // 최대 2년
 
     /**
      * 주간 통계 조회
@@ -67,24 +76,128 @@ public class WeeklyStatsService {
         return new WeeklyStatsDto.Response(weekInfo, studyTime, cardImprovement, goalProgress);
     }
 
+    /**
+     * 주간 학습 추이 조회 (이번 주 포함 최근 N주)
+     *
+     * @param userId 사용자 ID
+     * @param weeks 조회할 주 수 (1 ~ 104)
+     * @return 주별 학습 요약 목록
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public WeeklyStatsDto.HistoryResponse getWeeklyHistory(Long userId, int weeks) {
+        if (weeks < 1 || weeks > MAX_HISTORY_WEEKS) {
+            throw new InvalidRequestException("조회할 주 수는 1~" + MAX_HISTORY_WEEKS + " 사이여야 합니다.");
+        }
+        LocalDate today = LocalDate.now();
+        return getWeeklyHistory(userId, today.minusWeeks(weeks - 1), today);
+    }
+
+    /**
+     * 주간 학습 추이 조회 (from이 속한 주 ~ to가 속한 주)
+     * 일일 학습 요약을 한 번의 범위 조회로 읽어 주 단위로 합산하며,
+     * 이미 끝난 주는 캐시된 요약을 재사용하여 캐시에 없는 주부터만 조회함
+     * 캐시 세대를 읽은 뒤 조회하도록 트랜잭션 없이 실행 (조회하는 동안 무효화되면 결과를 캐시하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param from 시작 날짜 (해당 주 월요일부터)
+     * @param to 종료 날짜 (해당 주 일요일까지)
+     * @return 주별 학습 요약 목록
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public WeeklyStatsDto.HistoryResponse getWeeklyHistory(Long userId, LocalDate from, LocalDate to) {
+        LocalDate firstWeekStart = from.with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
+        LocalDate lastWeekStart = to.with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
+        if (lastWeekStart.isBefore(firstWeekStart)) {
+            throw new InvalidRequestException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.WEEKS.between(firstWeekStart, lastWeekStart) + 1 > MAX_HISTORY_WEEKS) {
+            throw new InvalidRequestException("주간 추이는 최대 " + MAX_HISTORY_WEEKS + "주까지 조회할 수 있습니다.");
+        }
+        LocalDate currentWeekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
+
+        // 캐시된 지난 주 요약을 모으고, 캐시에 없는 가장 이른 주를 찾음 (끝나지 않은 주는 항상 조회)
+        long generation = weeklyHistoryCache.generation(userId);
+        Map<LocalDate, WeeklyStatsDto.WeekSummary> cachedWeeks = new HashMap<>();
+        LocalDate scanStart = null;
+        for (LocalDate weekStart = firstWeekStart; !weekStart.isAfter(lastWeekStart); weekStart = weekStart.plusWeeks(1)) {
+            WeeklyStatsDto.WeekSummary cached =
+                    weekStart.isBefore(currentWeekStart) ? weeklyHistoryCache.get(userId, weekStart) : null;
+            if (cached == null) {
+                scanStart = weekStart;
+                break;
+            }
+            cachedWeeks.put(weekStart, cached);
+        }
+
+        // 캐시에 없는 주 ~ 마지막 주를 한 번에 조회하여 주 시작일별로 분류
+        Map<LocalDate, List<DailyStudySummary>> daysByWeek = scanStart == null ? Map.of() : dailyStudySummaryRepository
+                .findByUserIdAndStudyDateBetweenOrderByStudyDate(userId, scanStart, lastWeekStart.plusDays(6))
+                .stream()
+                .collect(Collectors.groupingBy(day -> day.getStudyDate()
+                        .with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY))));
+
+        List<WeeklyStatsDto.WeekSummary> summaries = new ArrayList<>();
+        List<WeeklyStatsDto.WeekSummary> finished = new ArrayList<>();
+        for (LocalDate weekStart = firstWeekStart; !weekStart.isAfter(lastWeekStart); weekStart = weekStart.plusWeeks(1)) {
+            WeeklyStatsDto.WeekSummary summary = cachedWeeks.get(weekStart);
+            if (summary == null) {
+                summary = summarizeWeek(weekStart, daysByWeek.getOrDefault(weekStart, List.of()));
+                if (weekStart.isBefore(currentWeekStart)) {
+                    finished.add(summary); // 끝난 주만 캐시
+                }
+            }
+            summaries.add(summary);
+        }
+        weeklyHistoryCache.putAll(userId, generation, finished);
+
+        return new WeeklyStatsDto.HistoryResponse(summaries);
+    }
+
+    /**
+     * 일일 요약들을 한 주의 요약으로 합산
+     */
+    private WeeklyStatsDto.WeekSummary summarizeWeek(LocalDate weekStart, List<DailyStudySummary> days) {
+        int pomodoroMinutes = 0;
+        int wordBookMinutes = 0;
+        int hardChange = 0;
+        int normalChange = 0;
+        int easyChange = 0;
+        int achievedAmount = 0;
+        int sessionCount = 0;
+
+        for (DailyStudySummary day : days) {
+            pomodoroMinutes += day.getPomodoroMinutes();
+            wordBookMinutes += day.getWordBookMinutes();
+            hardChange += day.getHardChange();
+            normalChange += day.getNormalChange();
+            easyChange += day.getEasyChange();
+            achievedAmount += day.getAchievedAmount();
+            sessionCount += day.getGoalSessionCount() + day.getWordBookSessionCount();
+        }
+
+        return new WeeklyStatsDto.WeekSummary(
+                weekStart,
+                new WeeklyStatsDto.StudyTime(pomodoroMinutes, wordBookMinutes),
+                new WeeklyStatsDto.DifficultyChange(hardChange, normalChange, easyChange),
+                achievedAmount,
+                sessionCount
+        );
+    }
+
     /**
      * 학습 시간 통계 계산
      * 포모도로 학습 시간 + 단어장 학습 시간
      */
     private WeeklyStatsDto.StudyTime getStudyTime(Long userId, LocalDateTime weekStart, LocalDateTime weekEnd) {
         // 포모도로 학습 시간 (포모 개수 * 25분)
-        List<GoalStudySession> goalSessions = goalStudySessionRepository
-                .findByUserIdAndStartedAtBetween(userId, weekStart, weekEnd);
-        int pomodoroMinutes = goalSessions.stream()
-                .mapToInt(GoalStudySession::getDurationMinutes)
-                .sum();
+        int pomodoroMinutes = goalStudySessionRepository
+                .sumByUserIdAndStartedAtBetween(userId, weekStart, weekEnd)
+                .getTotalMinutes().intValue();
 
         // 단어장 학습 시간 (실제 소요 시간)
-        List<WordBookStudySession> wordBookSessions = wordBookStudySessionRepository
-                .findByUserIdAndStartedAtBetween(userId, weekStart, weekEnd);
-        int wordBookMinutes = wordBookSessions.stream()
-                .mapToInt(WordBookStudySession::getDurationMinutes)
-                .sum();
+        int wordBookMinutes = wordBookStudySessionRepository
+                .sumByUserIdAndStartedAtBetween(userId, weekStart, weekEnd)
+                .getTotalMinutes().intValue();
 
         return new WeeklyStatsDto.StudyTime(pomodoroMinutes, wordBookMinutes);
     }
@@ -165,7 +278,7 @@ public class WeeklyStatsService {
      * 월 기준 주차 계산
      * 1일~7일 = 1주차, 8일~14일 = 2주차 ...
      */
-    private int getWeekOfMonth(LocalDate date) {
+    static int getWeekOfMonth(LocalDate date) {
         WeekFields weekFields = WeekFields.of(Locale.getDefault());
         return date.get(weekFields.weekOfMonth());
     }
@@ -180,22 +293,34 @@ public class WeeklyStatsService {
         int month = today.getMonthValue();
         int weekNumber = getWeekOfMonth(today);
 
+        // 대부분의 호출은 이미 기준선이 있으므로 메모리에서 먼저 확인
+        if (weeklyBaselineRegistry.contains(userId, year, month, weekNumber)) {
+            return;
+        }
+
         // 이미 이번 주 기준선이 있는지 확인
         boolean cardBaselineExists = weeklyCardBaselineRepository
                 .existsByUserIdAndYearAndMonthAndWeekNumber(userId, year, month, weekNumber);
 
         if (!cardBaselineExists) {
-            createCardBaseline(userId, year, month, weekNumber);
+            if (!createCardBaseline(userId, year, month, weekNumber)) {
+                return; // 사용자가 없으면 기준선도 기록도 남기지 않음
+            }
             createGoalBaselines(userId, year, month, weekNumber);
         }
+
+        // 기준선이 커밋된 뒤에 기록 (롤백되면 다음 호출에서 다시 생성)
+        AfterCommit.run(() -> weeklyBaselineRegistry.add(userId, year, month, weekNumber));
     }
 
     /**
      * 카드 기준선 생성
+     *
+     * @return 기준선을 저장했으면 true, 사용자가 없으면 false
      */
-    private void createCardBaseline(Long userId, int year, int month, int weekNumber) {
+    private boolean createCardBaseline(Long userId, int year, int month, int weekNumber) {
         User user = userRepository.findById(userId).orElse(null);
-        if (user == null) return;
+        if (user == null) return false;
 
         // 현재 카드 난이도 분포 집계
         List<Card> userCards = cardRepository.findByWordBookUserId(userId);
@@ -212,6 +337,7 @@ public class WeeklyStatsService {
                 userCards.size(), hardCount, normalCount, easyCount
         );
         weeklyCardBaselineRepository.save(baseline);
+        return true;
     }
 
     /**
@@ -223,7 +349,17 @@ public class WeeklyStatsService {
 
         List<Goal> goals = goalRepository.findByUserId(userId);
 
+        // 이미 기준선이 있는 목표는 건너뜀 (사용자/목표/주차 유니크 제약)
+        Set<Integer> existingGoalIds = weeklyGoalBaselineRepository
+                .findByUserIdAndYearAndMonthAndWeekNumber(userId, year, month, weekNumber)
+                .stream()
+                .map(existing -> existing.getGoal().getId())
+                .collect(Collectors.toSet());
+
         for (Goal goal : goals) {
+            if (existingGoalIds.contains(goal.getId())) {
+                continue;
+            }
             WeeklyGoalBaseline baseline = new WeeklyGoalBaseline(
                     user, goal, year, month, weekNumber,
                     goal.getCurrentProgress(),
@@ -12,11 +12,13 @@ import com.learnkit.backend.repository.WordBookRepository;
 import com.learnkit.backend.repository.WordBookStudySessionRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,8 @@ public class WordBookStudySessionService {
     private final WordBookStudySessionRepository wordBookStudySessionRepository;
     private final UserRepository userRepository;
     private final WordBookRepository wordBookRepository;
+    private final StudyActivityService studyActivityService;
+    private final ActiveSessionRegistry activeSessionRegistry;
 
     /**
      * 단어장 학습 세션 시작
@@ -34,9 +38,9 @@ public class WordBookStudySessionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        // 이미 진행 중인 세션 있는지 확인
-        Optional<WordBookStudySession> activeSession = wordBookStudySessionRepository.findByUserIdAndEndedAtIsNull(userId);
-        if (activeSession.isPresent()) {
+        // 이미 진행 중인 세션 있는지 확인 (메모리 레지스트리, 등록된 세션이 있을 때만 DB 재확인)
+        if (!activeSessionRegistry.reserve(ActiveSessionRegistry.Kind.WORDBOOK, userId,
+                wordBookStudySessionRepository::existsByIdAndEndedAtIsNull)) {
             throw new IllegalStateException("이미 진행 중인 단어장 학습 세션이 있습니다.");
         }
 
@@ -50,7 +54,17 @@ public class WordBookStudySessionService {
                 requestDto.getNormalCount(),
                 requestDto.getEasyCount()
         );
-        WordBookStudySession savedSession = wordBookStudySessionRepository.save(session);
+        WordBookStudySession savedSession;
+        try {
+            // 진행 중 세션 유니크 제약 위반을 여기서 바로 확인하기 위해 즉시 flush
+            savedSession = wordBookStudySessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException e) {
+            if (ActiveSessionRegistry.isActiveSessionConflict(e, WordBookStudySession.ACTIVE_USER_CONSTRAINT)) {
+                throw new IllegalStateException("이미 진행 중인 단어장 학습 세션이 있습니다.");
+            }
+            throw e;
+        }
+        activeSessionRegistry.activate(ActiveSessionRegistry.Kind.WORDBOOK, userId, savedSession.getId());
 
         return new WordBookStudySessionDto.Response(savedSession);
     }
@@ -59,7 +73,7 @@ public class WordBookStudySessionService {
      * 단어장 학습 세션 종료
      */
     public WordBookStudySessionDto.Response endSession(Integer sessionId, WordBookStudySessionDto.EndRequest requestDto) {
-        WordBookStudySession session = wordBookStudySessionRepository.findById(sessionId)
+        WordBookStudySession session = wordBookStudySessionRepository.findForUpdate(sessionId)
                 .orElseThrow(() -> new WordBookStudySessionNotFoundException(sessionId));
 
         if (!session.isInProgress()) {
@@ -72,6 +86,9 @@ public class WordBookStudySessionService {
                 requestDto.getEasyCount()
         );
 
+        studyActivityService.addWordBookSession(session);
+        activeSessionRegistry.release(ActiveSessionRegistry.Kind.WORDBOOK, session.getUser().getId(), sessionId); // 커밋 후 반영
+
         return new WordBookStudySessionDto.Response(session);
     }
 
@@ -89,7 +106,13 @@ public class WordBookStudySessionService {
      * 진행 중인 세션 조회
      */
     public WordBookStudySessionDto.Response findActiveSession(Long userId) {
-        WordBookStudySession session = wordBookStudySessionRepository.findByUserIdAndEndedAtIsNull(userId)
+        Integer sessionId = activeSessionRegistry.activeSessionId(ActiveSessionRegistry.Kind.WORDBOOK, userId);
+        if (sessionId == null) {
+            throw new WordBookStudySessionNotFoundException("진행 중인 세션이 없습니다.");
+        }
+
+        WordBookStudySession session = wordBookStudySessionRepository.findWithDetailsById(sessionId)
+                .filter(WordBookStudySession::isInProgress)
                 .orElseThrow(() -> new WordBookStudySessionNotFoundException("진행 중인 세션이 없습니다."));
         return new WordBookStudySessionDto.Response(session);
     }
@@ -107,31 +130,75 @@ public class WordBookStudySessionService {
      * 세션 삭제
      */
     public void deleteSession(Integer sessionId) {
-        WordBookStudySession session = wordBookStudySessionRepository.findById(sessionId)
+        WordBookStudySession session = wordBookStudySessionRepository.findForUpdate(sessionId)
                 .orElseThrow(() -> new WordBookStudySessionNotFoundException(sessionId));
+        studyActivityService.removeWordBookSession(session);
+        if (session.isInProgress()) {
+            activeSessionRegistry.release(ActiveSessionRegistry.Kind.WORDBOOK, session.getUser().getId(), sessionId);
+        }
         wordBookStudySessionRepository.delete(session);
     }
 
     /**
-     * 학습 통계 조회 (특정 기간)
+     * 오래 방치된 진행 중 세션 한 묶음 종료 (방치 세션 정리 작업용, 묶음마다 별도 트랜잭션)
+     *
+     * @param cutoff 시작/마지막 수정이 이 시각 이전인 세션만 종료
+     * @param maxMinutes 종료 세션의 최대 학습 시간 (분)
+     * @return 이번 묶음에서 종료한 세션 수 (batchSize보다 작으면 남은 세션 없음)
      */
-    public WordBookStudySessionDto.StatisticsResponse getStatistics(Long userId, LocalDateTime start, LocalDateTime end) {
-        List<WordBookStudySession> sessions = wordBookStudySessionRepository.findByUserIdAndStartedAtBetween(userId, start, end);
+    public int closeStaleSessions(LocalDateTime cutoff, int maxMinutes, int batchSize) {
+        List<WordBookStudySessionRepository.ActiveSession> stale =
+                wordBookStudySessionRepository.lockStaleSessions(cutoff, batchSize);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> sessionIds = stale.stream()
+                .map(WordBookStudySessionRepository.ActiveSession::getSessionId)
+                .toList();
+        wordBookStudySessionRepository.closeStaleSessions(sessionIds, maxMinutes, LocalDateTime.now());
 
-        int totalSessions = sessions.size();
-        int totalMinutes = sessions.stream().mapToInt(WordBookStudySession::getDurationMinutes).sum();
+        // 일괄 종료된 값으로 다시 읽어 일일 요약/달력에 반영
+        for (WordBookStudySession session : wordBookStudySessionRepository.findAllById(sessionIds)) {
+            studyActivityService.addWordBookSession(session);
+        }
+        for (WordBookStudySessionRepository.ActiveSession closed : stale) {
+            activeSessionRegistry.release(ActiveSessionRegistry.Kind.WORDBOOK, closed.getUserId(), closed.getSessionId());
+        }
+        return stale.size();
+    }
 
-        // 어려움 감소량 (start - end)
-        int hardImprovement = sessions.stream()
-                .mapToInt(s -> s.getStartHardCount() - s.getEndHardCount())
-                .sum();
+    /**
+     * 사용자별 가장 최근 세션만 남기고 나머지 진행 중 세션 종료 (진행 중 세션 유니크 제약을 만들기 전 정리용)
+     * 방치 세션과 같은 방식으로 학습 시간을 제한하여 종료하고 일일 요약/달력에 반영
+     *
+     * @return 종료한 세션 수
+     */
+    public int closeDuplicateActiveSessions(int maxMinutes) {
+        List<Integer> sessionIds = wordBookStudySessionRepository.findSupersededActiveSessionIds();
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
 
-        // 쉬움 증가량 (end - start)
-        int easyIncrease = sessions.stream()
-                .mapToInt(s -> s.getEndEasyCount() - s.getStartEasyCount())
-                .sum();
+        wordBookStudySessionRepository.closeStaleSessions(sessionIds, maxMinutes, LocalDateTime.now());
+        for (WordBookStudySession session : wordBookStudySessionRepository.findAllById(sessionIds)) {
+            studyActivityService.addWordBookSession(session);
+        }
+        return sessionIds.size();
+    }
+
+    /**
+     * 학습 통계 조회 (특정 기간)
+     */
+    public WordBookStudySessionDto.StatisticsResponse getStatistics(Long userId, LocalDateTime start, LocalDateTime end) {
+        WordBookStudySessionRepository.SessionTotals totals =
+                wordBookStudySessionRepository.sumByUserIdAndStartedAtBetween(userId, start, end);
 
-        return new WordBookStudySessionDto.StatisticsResponse(totalSessions, totalMinutes, hardImprovement, easyIncrease);
+        return new WordBookStudySessionDto.StatisticsResponse(
+                totals.getTotalSessions().intValue(),
+                totals.getTotalMinutes().intValue(),
+                totals.getHardImprovement().intValue(),   // 어려움 감소량 (start - end)
+                totals.getEasyIncrease().intValue());     // 쉬움 증가량 (end - start)
     }
 
     /**
@@ -143,4 +210,60 @@ public class WordBookStudySessionService {
                 .map(WordBookStudySessionDto.Response::new)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * 특정 사용자의 세션 목록 한 페이지 조회 (최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public WordBookStudySessionDto.PageResponse findSessionPageByUserId(Long userId, String cursor, int size) {
+        SessionCursor.checkPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1); // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+
+        List<WordBookStudySession> sessions;
+        if (cursor == null || cursor.isBlank()) {
+            sessions = wordBookStudySessionRepository.findPageByUserId(userId, limit);
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            sessions = wordBookStudySessionRepository.findPageByUserIdAfter(
+                    userId, after.startedAt(), after.idBoundFor(SessionCursor.WORDBOOK), limit);
+        }
+        return toPage(sessions, size);
+    }
+
+    /**
+     * 특정 단어장의 세션 목록 한 페이지 조회 (최신순)
+     */
+    public WordBookStudySessionDto.PageResponse findSessionPageByWordBookId(Long wordBookId, String cursor, int size) {
+        SessionCursor.checkPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<WordBookStudySession> sessions;
+        if (cursor == null || cursor.isBlank()) {
+            sessions = wordBookStudySessionRepository.findPageByWordBookId(wordBookId, limit);
+        } else {
+            SessionCursor after = SessionCursor.decode(cursor);
+            sessions = wordBookStudySessionRepository.findPageByWordBookIdAfter(
+                    wordBookId, after.startedAt(), after.idBoundFor(SessionCursor.WORDBOOK), limit);
+        }
+        return toPage(sessions, size);
+    }
+
+    // (size + 1)건 조회 결과를 한 페이지와 다음 커서로 변환
+    private WordBookStudySessionDto.PageResponse toPage(List<WordBookStudySession> sessions, int size) {
+        boolean hasMore = sessions.size() > size;
+        List<WordBookStudySession> page = hasMore ? sessions.subList(0, size) : sessions;
+
+        String nextCursor = null;
+        if (hasMore) {
+            WordBookStudySession last = page.get(size - 1);
+            nextCursor = new SessionCursor(last.getStartedAt(), SessionCursor.WORDBOOK, last.getId()).encode();
+        }
+
+        List<WordBookStudySessionDto.Response> items = page.stream()
+                .map(WordBookStudySessionDto.Response::new)
+                .toList();
+        return new WordBookStudySessionDto.PageResponse(items, nextCursor);
+    }
+}
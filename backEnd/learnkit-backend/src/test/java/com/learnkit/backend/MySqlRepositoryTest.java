@@ -0,0 +1,91 @@
+package com.learnkit.backend;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * MySQL 컨테이너를 사용하는 Repository 테스트의 공통 설정
+ * 네이티브 쿼리(ON DUPLICATE KEY UPDATE 등)와 실행 계획(EXPLAIN)은 실제 MySQL에서만 확인할 수 있으므로 Testcontainers로 띄움
+ * 스키마는 application.properties의 ddl-auto=update로 생성되며, Docker가 없는 환경에서는 테스트를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlRepositoryTest.MySqlContainerConfig.class)
+public abstract class MySqlRepositoryTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    /**
+     * 테스트용 사용자 추가
+     *
+     * @return 생성된 사용자 ID
+     */
+    protected Long insertUser(String email) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO users (email, password, nickname, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, email);
+            statement.setString(2, "password");
+            statement.setString(3, email);
+            statement.setTimestamp(4, Timestamp.valueOf(now));
+            statement.setTimestamp(5, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    /**
+     * 쿼리의 실행 계획에서 해당 테이블에 사용한 인덱스 이름 (인덱스를 쓰지 않으면 null)
+     */
+    protected String explainKey(String table, String sql, Object... args) {
+        List<String> keys = new ArrayList<>();
+        jdbcTemplate.query("EXPLAIN " + sql, rs -> {
+            if (table.equals(rs.getString("table"))) {
+                keys.add(rs.getString("key"));
+            }
+        }, args);
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    /**
+     * 인덱스 통계 갱신 (대량으로 넣은 데이터 기준으로 실행 계획을 세우도록)
+     */
+    protected void analyze(String... tables) {
+        jdbcTemplate.execute("ANALYZE TABLE " + String.join(", ", tables));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MySqlContainerConfig {
+
+        @Bean
+        @ServiceConnection
+        MySQLContainer<?> mysqlContainer() {
+            return new MySQLContainer<>(DockerImageName.parse("mysql:8.4"))
+                    .withUrlParam("rewriteBatchedStatements", "true");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.AppLaunchHourlyCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AppLaunchHourlyCountRepositoryTest extends MySqlRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 9, 1);
+
+    @Autowired
+    private AppLaunchHourlyCountRepository appLaunchHourlyCountRepository;
+
+    @Test
+    @DisplayName("원본 실행 기록을 (사용자, 날짜, 시) 집계에 한 문장으로 누적함")
+    void addLaunches() {
+        Long userId = insertUser("compact@learnkit.com");
+        List<Integer> first = List.of(
+                insertLaunch(userId, DAY.atTime(9, 5)),
+                insertLaunch(userId, DAY.atTime(9, 40)),
+                insertLaunch(userId, DAY.atTime(21, 0)));
+        List<Integer> second = List.of(
+                insertLaunch(userId, DAY.atTime(9, 59)),
+                insertLaunch(userId, DAY.plusDays(1).atTime(0, 1)));
+
+        appLaunchHourlyCountRepository.addLaunches(first);
+        appLaunchHourlyCountRepository.addLaunches(second); // 이미 있는 (날짜, 시)는 누적
+
+        assertThat(appLaunchHourlyCountRepository.findByUserIdAndLaunchDateGreaterThanEqual(userId, DAY))
+                .extracting(AppLaunchHourlyCount::getLaunchDate, AppLaunchHourlyCount::getLaunchHour,
+                        AppLaunchHourlyCount::getLaunchCount)
+                .containsExactlyInAnyOrder(
+                        tuple(DAY, 9, 3),
+                        tuple(DAY, 21, 1),
+                        tuple(DAY.plusDays(1), 0, 1));
+    }
+
+    @Test
+    @DisplayName("지정 날짜 이전의 집계를 최대 limit건씩 삭제함")
+    void deleteLaunchedBefore() {
+        Long userId = insertUser("prune@learnkit.com");
+        for (int day = 0; day < 5; day++) {
+            appLaunchHourlyCountRepository.addLaunches(List.of(insertLaunch(userId, DAY.plusDays(day).atTime(10, 0))));
+        }
+
+        assertThat(appLaunchHourlyCountRepository.deleteLaunchedBefore(DAY.plusDays(3), 2)).isEqualTo(2);
+        assertThat(appLaunchHourlyCountRepository.deleteLaunchedBefore(DAY.plusDays(3), 2)).isEqualTo(1);
+        assertThat(appLaunchHourlyCountRepository.deleteLaunchedBefore(DAY.plusDays(3), 2)).isZero();
+
+        assertThat(appLaunchHourlyCountRepository.findByUserIdAndLaunchDateGreaterThanEqual(userId, DAY))
+                .extracting(AppLaunchHourlyCount::getLaunchDate)
+                .containsExactlyInAnyOrder(DAY.plusDays(3), DAY.plusDays(4));
+    }
+
+    private Integer insertLaunch(Long userId, LocalDateTime launchTime) {
+        jdbcTemplate.update("INSERT INTO app_launches (user_id, launch_time) VALUES (?, ?)",
+                userId, Timestamp.valueOf(launchTime));
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+    }
+}
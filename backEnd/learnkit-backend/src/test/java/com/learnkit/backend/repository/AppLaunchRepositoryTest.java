@@ -0,0 +1,136 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.AppLaunch;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 앱 실행 기록 집계 쿼리 테스트
+ * 실행 계획이 대량 데이터 기준으로 세워지도록 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지움
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AppLaunchRepositoryTest extends MySqlRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AppLaunchRepositoryTest.class);
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final int LAUNCHES = 10_000;
+    private static final int DAYS = 40; // 집계 기간(30일)보다 길게 넣어 기간 조건도 확인
+
+    @Autowired
+    private AppLaunchRepository appLaunchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM app_launches");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("실행 기록 1만 건의 최근 30일 일자별/시간대별 집계는 (user_id, launch_time) 인덱스로 처리함")
+    void countLaunchesByDayAndHour() {
+        Long userId = insertUser("launch@learnkit.com");
+        // 다른 사용자의 기록도 섞어서 사용자 조건이 인덱스로 걸러지는지 확인
+        for (int i = 0; i < 4; i++) {
+            insertLaunches(insertUser("other" + i + "@learnkit.com"), LAUNCHES);
+        }
+        Map<String, Long> expected = insertLaunches(userId, LAUNCHES);
+        analyze("app_launches");
+
+        LocalDateTime since = TODAY.minusDays(29).atStartOfDay();
+        List<AppLaunchRepository.DailyHourlyLaunchCount> counts =
+                appLaunchRepository.countLaunchesByDayAndHour(userId, since);
+
+        Map<String, Long> actual = new HashMap<>();
+        for (AppLaunchRepository.DailyHourlyLaunchCount count : counts) {
+            actual.put(count.getLaunchDate() + "/" + count.getLaunchHour(), count.getLaunchCount());
+        }
+        expected.keySet().removeIf(key -> LocalDate.parse(key.substring(0, 10)).isBefore(since.toLocalDate()));
+        assertThat(actual).isEqualTo(expected);
+        assertThat(counts).hasSizeLessThanOrEqualTo(30 * 24);
+
+        String key = explainKey("a",
+                "SELECT CAST(a.launch_time AS DATE), EXTRACT(HOUR FROM a.launch_time), COUNT(a.id) " +
+                        "FROM app_launches a WHERE a.user_id = ? AND a.launch_time >= ? " +
+                        "GROUP BY CAST(a.launch_time AS DATE), EXTRACT(HOUR FROM a.launch_time)",
+                userId, Timestamp.valueOf(since));
+        assertThat(key).isEqualTo("idx_app_launches_user_time");
+
+        // 이전 방식(엔티티를 모두 불러와 Java에서 집계)도 같은 결과인지 확인
+        assertThat(countInJava(userId, since)).isEqualTo(actual);
+
+        // 벤치마크: 같은 데이터에서 이전 방식과 SQL 집계를 각각 데운 뒤 반복 실행한 평균 시간 비교
+        int runs = 20;
+        double entityMillis = averageMillis(runs, () -> countInJava(userId, since));
+        double aggregateMillis = averageMillis(runs, () -> appLaunchRepository.countLaunchesByDayAndHour(userId, since));
+        log.info("{} launches: entities + Java grouping avg {} ms, SQL GROUP BY ({} rows) avg {} ms ({}x)",
+                LAUNCHES, String.format("%.2f", entityMillis), counts.size(), String.format("%.2f", aggregateMillis),
+                String.format("%.1f", entityMillis / aggregateMillis));
+    }
+
+    // 이전 방식: 최근 30일 실행 기록 엔티티를 모두 불러와 (날짜/시) 별로 셈
+    private Map<String, Long> countInJava(Long userId, LocalDateTime since) {
+        List<AppLaunch> launches = entityManager.createQuery("SELECT a FROM AppLaunch a " +
+                        "WHERE a.user.id = :userId AND a.launchTime >= :since ORDER BY a.launchTime DESC", AppLaunch.class)
+                .setParameter("userId", userId)
+                .setParameter("since", since)
+                .getResultList();
+        Map<String, Long> counts = new HashMap<>();
+        for (AppLaunch launch : launches) {
+            counts.merge(launch.getLaunchTime().toLocalDate() + "/" + launch.getLaunchTime().getHour(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    // 한 번 실행해 데운 뒤 runs번 반복한 평균 시간 (ms)
+    private static double averageMillis(int runs, Runnable query) {
+        query.run();
+        long started = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - started) / 1_000_000.0 / runs;
+    }
+
+    // 실행 기록을 여러 날짜/시간대에 나눠 넣고, (날짜/시) 별 기대 횟수를 반환
+    private Map<String, Long> insertLaunches(Long userId, int launches) {
+        Map<String, Long> expected = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < launches; i++) {
+            LocalDateTime launchTime = TODAY.minusDays(i % DAYS).atTime((i * 7) % 24, i % 60);
+            rows.add(new Object[]{userId, Timestamp.valueOf(launchTime)});
+            expected.merge(launchTime.toLocalDate() + "/" + launchTime.getHour(), 1L, Long::sum);
+        }
+        // 1천 건씩 여러 행 INSERT
+        for (int from = 0; from < rows.size(); from += 1000) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + 1000, rows.size()));
+            String values = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+            jdbcTemplate.update("INSERT INTO app_launches (user_id, launch_time) VALUES " + values,
+                    chunk.stream().flatMap(Arrays::stream).toArray());
+        }
+        return expected;
+    }
+}
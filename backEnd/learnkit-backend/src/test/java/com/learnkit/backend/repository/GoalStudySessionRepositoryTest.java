@@ -0,0 +1,85 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 종료 잠금과 방치 세션 정리(SKIP LOCKED)의 상호 작용 테스트
+ * 두 트랜잭션을 실제로 겹쳐 실행해야 하므로 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지움
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GoalStudySessionRepositoryTest extends MySqlRepositoryTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Autowired
+    private GoalStudySessionRepository goalStudySessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM goal_study_sessions");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("종료 중인(findForUpdate로 잠근) 세션은 방치 세션 정리가 건너뜀")
+    void staleSweepSkipsSessionBeingEnded() throws Exception {
+        Long userId = insertUser("ending@learnkit.com");
+        jdbcTemplate.update("INSERT INTO goal_study_sessions (user_id, started_at, achieved_amount, duration_minutes, " +
+                        "pomo_count, created_at, updated_at) VALUES (?, ?, 0, 0, 0, ?, ?)",
+                userId, Timestamp.valueOf(STARTED_AT), Timestamp.valueOf(STARTED_AT), Timestamp.valueOf(STARTED_AT));
+        Integer sessionId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+        LocalDateTime cutoff = STARTED_AT.plusDays(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch swept = new CountDownLatch(1);
+        CompletableFuture<Void> ending = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            assertThat(goalStudySessionRepository.findForUpdate(sessionId)).isPresent();
+            locked.countDown();
+            await(swept);
+        }));
+
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            List<GoalStudySessionRepository.ActiveSession> whileLocked = transactionTemplate.execute(
+                    status -> goalStudySessionRepository.lockStaleSessions(cutoff, 10));
+            assertThat(whileLocked).isEmpty();
+        } finally {
+            swept.countDown();
+            ending.get(10, TimeUnit.SECONDS);
+        }
+
+        List<GoalStudySessionRepository.ActiveSession> afterRelease = transactionTemplate.execute(
+                status -> goalStudySessionRepository.lockStaleSessions(cutoff, 10));
+        assertThat(afterRelease).extracting(GoalStudySessionRepository.ActiveSession::getSessionId)
+                .containsExactly(sessionId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
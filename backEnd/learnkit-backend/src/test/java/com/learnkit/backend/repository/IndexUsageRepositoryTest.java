@@ -0,0 +1,175 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션/주간 기준선/키셋 페이지 조회가 선언한 인덱스를 타는지 실행 계획(EXPLAIN)으로 확인
+ * 실행 계획이 실제 분포 기준으로 세워지도록 여러 사용자의 데이터를 커밋해 넣고 통계를 갱신한 뒤 확인하고, 끝나면 직접 지움
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IndexUsageRepositoryTest extends MySqlRepositoryTest {
+
+    private static final int USERS = 20;
+    private static final int GOALS_PER_USER = 5;
+    private static final int SESSIONS_PER_USER = 500;
+    private static final int WEEKS = 100;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final Timestamp CURSOR = Timestamp.valueOf(START.plusDays(200));
+
+    private Long userId;
+    private Integer goalId;
+    private Long wordBookId;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> goalSessions = new ArrayList<>();
+        List<Object[]> wordBookSessions = new ArrayList<>();
+        List<Object[]> cardBaselines = new ArrayList<>();
+        List<Object[]> goalBaselines = new ArrayList<>();
+
+        for (int u = 0; u < USERS; u++) {
+            Long user = insertUser("index" + u + "@learnkit.com");
+            jdbcTemplate.update("UPDATE users SET push_token = ? WHERE id = ?", "token-" + u, user);
+            List<Integer> goals = new ArrayList<>();
+            for (int g = 0; g < GOALS_PER_USER; g++) {
+                jdbcTemplate.update("INSERT INTO goals (user_id, title, total_target_amount, target_unit, " +
+                        "current_progress, is_completed) VALUES (?, ?, 100, 'page', 0, false)", user, "goal" + g);
+                goals.add(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class));
+            }
+            jdbcTemplate.update("INSERT INTO wordbooks (user_id, title, hard_frequency_ratio, normal_frequency_ratio, " +
+                    "easy_frequency_ratio) VALUES (?, 'words', 6, 3, 1)", user);
+            Long wordBook = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+
+            for (int s = 0; s < SESSIONS_PER_USER; s++) {
+                LocalDateTime startedAt = START.plusHours(s * 12L);
+                // 사용자마다 마지막 세션 하나만 진행 중
+                Timestamp endedAt = s == SESSIONS_PER_USER - 1 ? null : Timestamp.valueOf(startedAt.plusMinutes(50));
+                goalSessions.add(new Object[]{user, goals.get(s % GOALS_PER_USER), Timestamp.valueOf(startedAt), endedAt});
+                wordBookSessions.add(new Object[]{user, wordBook, Timestamp.valueOf(startedAt), endedAt});
+            }
+            for (int w = 0; w < WEEKS; w++) {
+                int year = 2025 + w / 48;
+                int month = (w / 4) % 12 + 1;
+                int weekNumber = w % 4 + 1;
+                cardBaselines.add(new Object[]{user, year, month, weekNumber});
+                for (Integer goal : goals) {
+                    goalBaselines.add(new Object[]{user, goal, year, month, weekNumber});
+                }
+            }
+
+            if (u == USERS / 2) {
+                userId = user;
+                goalId = goals.get(0);
+                wordBookId = wordBook;
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO goal_study_sessions (user_id, goal_id, started_at, ended_at, " +
+                "achieved_amount, duration_minutes, pomo_count) VALUES (?, ?, ?, ?, 1, 50, 2)", goalSessions);
+        jdbcTemplate.batchUpdate("INSERT INTO wordbook_study_sessions (user_id, wordbook_id, started_at, ended_at, " +
+                "duration_minutes, start_hard_count, start_normal_count, start_easy_count, end_hard_count, " +
+                "end_normal_count, end_easy_count) VALUES (?, ?, ?, ?, 50, 0, 0, 0, 0, 0, 0)", wordBookSessions);
+        jdbcTemplate.batchUpdate("INSERT INTO weekly_card_baselines (user_id, year, month, week_number, " +
+                "total_card_count, hard_count, normal_count, easy_count) VALUES (?, ?, ?, ?, 0, 0, 0, 0)", cardBaselines);
+        jdbcTemplate.batchUpdate("INSERT INTO weekly_goal_baselines (user_id, goal_id, year, month, week_number, " +
+                "start_amount, unit, goal_title) VALUES (?, ?, ?, ?, ?, 0, 'page', 'goal')", goalBaselines);
+
+        analyze("users", "goals", "wordbooks", "goal_study_sessions", "wordbook_study_sessions",
+                "weekly_card_baselines", "weekly_goal_baselines");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM weekly_goal_baselines");
+        jdbcTemplate.update("DELETE FROM weekly_card_baselines");
+        jdbcTemplate.update("DELETE FROM goal_study_sessions");
+        jdbcTemplate.update("DELETE FROM wordbook_study_sessions");
+        jdbcTemplate.update("DELETE FROM goals");
+        jdbcTemplate.update("DELETE FROM wordbooks");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("사용자의 진행 중 세션 조회는 (user_id, ended_at) 인덱스를 사용함")
+    void activeSessionByUser() {
+        assertThat(explainKey("s", "SELECT s.id FROM goal_study_sessions s " +
+                "WHERE s.user_id = ? AND s.ended_at IS NULL", userId))
+                .isEqualTo("idx_goal_study_sessions_user_ended");
+        assertThat(explainKey("s", "SELECT s.id FROM wordbook_study_sessions s " +
+                "WHERE s.user_id = ? AND s.ended_at IS NULL", userId))
+                .isEqualTo("idx_wordbook_study_sessions_user_ended");
+    }
+
+    @Test
+    @DisplayName("사용자/목표/단어장별 세션 키셋 페이지는 (소유자, started_at) 인덱스를 사용함")
+    void sessionKeysetPages() {
+        String keyset = "AND (s.started_at < ? OR (s.started_at = ? AND s.id < ?)) " +
+                "ORDER BY s.started_at DESC, s.id DESC LIMIT 20";
+
+        assertThat(explainKey("s", "SELECT s.id FROM goal_study_sessions s LEFT JOIN goals g ON g.id = s.goal_id " +
+                "WHERE s.user_id = ? " + keyset, userId, CURSOR, CURSOR, Integer.MAX_VALUE))
+                .isEqualTo("idx_goal_study_sessions_user_started");
+        assertThat(explainKey("s", "SELECT s.id FROM goal_study_sessions s LEFT JOIN goals g ON g.id = s.goal_id " +
+                "WHERE s.goal_id = ? " + keyset, goalId, CURSOR, CURSOR, Integer.MAX_VALUE))
+                .isEqualTo("idx_goal_study_sessions_goal_started");
+        assertThat(explainKey("s", "SELECT s.id FROM wordbook_study_sessions s " +
+                "WHERE s.user_id = ? " + keyset, userId, CURSOR, CURSOR, Integer.MAX_VALUE))
+                .isEqualTo("idx_wordbook_study_sessions_user_started");
+        assertThat(explainKey("s", "SELECT s.id FROM wordbook_study_sessions s " +
+                "WHERE s.wordbook_id = ? " + keyset, wordBookId, CURSOR, CURSOR, Integer.MAX_VALUE))
+                .isEqualTo("idx_wordbook_study_sessions_wordbook_started");
+    }
+
+    @Test
+    @DisplayName("기간 통계 합계는 (user_id, started_at) 인덱스 범위로 처리함")
+    void sessionTotalsByPeriod() {
+        assertThat(explainKey("s", "SELECT COUNT(s.id), SUM(s.duration_minutes) FROM goal_study_sessions s " +
+                        "WHERE s.user_id = ? AND s.started_at BETWEEN ? AND ?",
+                userId, Timestamp.valueOf(START.plusDays(30)), Timestamp.valueOf(START.plusDays(37))))
+                .isEqualTo("idx_goal_study_sessions_user_started");
+    }
+
+    @Test
+    @DisplayName("주간 카드 기준선은 사용자-주차 조회에 유니크 키, 주차별 사용자 목록에 주차 인덱스를 사용함")
+    void weeklyCardBaselines() {
+        assertThat(explainKey("b", "SELECT b.id FROM weekly_card_baselines b " +
+                "WHERE b.user_id = ? AND b.year = ? AND b.month = ? AND b.week_number = ?", userId, 2025, 3, 2))
+                .isEqualTo("uk_weekly_card_baselines_user_week");
+        assertThat(explainKey("b", "SELECT b.user_id FROM weekly_card_baselines b " +
+                "WHERE b.year = ? AND b.month = ? AND b.week_number = ?", 2025, 3, 2))
+                .isEqualTo("idx_weekly_card_baselines_week");
+    }
+
+    @Test
+    @DisplayName("주간 목표 기준선은 목표별 조회에 유니크 키, 사용자-주차 목록에 (user_id, 주차) 인덱스를 사용함")
+    void weeklyGoalBaselines() {
+        assertThat(explainKey("b", "SELECT b.id FROM weekly_goal_baselines b " +
+                        "WHERE b.user_id = ? AND b.goal_id = ? AND b.year = ? AND b.month = ? AND b.week_number = ?",
+                userId, goalId, 2025, 3, 2))
+                .isEqualTo("uk_weekly_goal_baselines_user_goal_week");
+        assertThat(explainKey("b", "SELECT b.id FROM weekly_goal_baselines b " +
+                "WHERE b.user_id = ? AND b.year = ? AND b.month = ? AND b.week_number = ?", userId, 2025, 3, 2))
+                .isEqualTo("idx_weekly_goal_baselines_user_week");
+    }
+
+    @Test
+    @DisplayName("알림 대상 키셋 페이지는 기본 키 범위로 읽음")
+    void reminderTargetKeyset() {
+        assertThat(explainKey("u", "SELECT u.id, u.push_token FROM users u " +
+                "WHERE u.push_token IS NOT NULL AND u.id > ? ORDER BY u.id LIMIT 100", userId))
+                .isEqualTo("PRIMARY");
+    }
+}
@@ -0,0 +1,104 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.Schedule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 겹침 일정 조회 테스트
+ * 실행 계획이 대량 데이터 기준으로 세워지도록 테스트 트랜잭션 없이 커밋하고, 끝나면 직접 지움
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleRepositoryTest extends MySqlRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusMonths(1);
+    private static final LocalDateTime SHORT_FROM = FROM.minusDays(Schedule.SHORT_SPAN_DAYS);
+    private static final int HISTORY_DAYS = 1500; // 기간보다 훨씬 긴 지난 기록
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM schedules");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("짧은 일정은 시작 시간 하한 안에서, 긴 일정과 반복 규칙은 따로 찾아 기간과 겹치는 일정만 조회함")
+    void findOverlapping() {
+        Long userId = insertUser("calendar@learnkit.com");
+        List<Object[]> history = new ArrayList<>();
+        for (int day = 1; day <= HISTORY_DAYS; day++) {
+            LocalDateTime start = FROM.minusDays(day).withHour(10);
+            history.add(new Object[]{userId, "past", Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)),
+                    Timestamp.valueOf(start.plusHours(1)), null, null});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO schedules (user_id, title, start_time, end_time, series_end_time, " +
+                "recurrence_frequency, recurrence_interval, is_completed) VALUES (?, ?, ?, ?, ?, ?, ?, false)", history);
+
+        // 기간 시작 직전에 시작해 기간 안에서 끝나는 짧은 일정 (하한 경계)
+        Long crossing = insertSchedule(userId, FROM.minusDays(3), FROM.plusHours(2), FROM.plusHours(2), null);
+        // 기간 안의 짧은 일정
+        Long inside = insertSchedule(userId, FROM.plusDays(10), FROM.plusDays(10).plusHours(1),
+                FROM.plusDays(10).plusHours(1), null);
+        // 시작과 종료가 같은 일정 (기간 시작 시각)
+        Long instant = insertSchedule(userId, FROM, FROM, FROM, null);
+        // 오래전에 시작해 기간 안까지 이어지는 긴 단일 일정
+        Long longEvent = insertSchedule(userId, FROM.minusDays(40), FROM.plusDays(1), FROM.plusDays(1), null);
+        // 2년 전에 시작한 종료일 없는 반복 일정
+        Long recurring = insertSchedule(userId, FROM.minusYears(2).withHour(8), FROM.minusYears(2).withHour(9),
+                Schedule.OPEN_ENDED, "WEEKLY");
+        // 기간 전에 끝난 긴 일정과 기간 이후의 일정 (제외)
+        insertSchedule(userId, FROM.minusDays(60), FROM.minusDays(20), FROM.minusDays(20), null);
+        insertSchedule(userId, TO, TO.plusHours(1), TO.plusHours(1), null);
+        analyze("schedules");
+
+        List<Schedule> schedules = scheduleRepository.findOverlapping(userId, FROM, TO, SHORT_FROM);
+
+        assertThat(schedules).extracting(Schedule::getId)
+                .containsExactlyInAnyOrder(crossing, inside, instant, longEvent, recurring);
+
+        String sql = "SELECT s.id FROM schedules s WHERE s.user_id = ? " +
+                "AND (s.long_span = true OR (s.long_span = false AND s.start_time >= ?)) " +
+                "AND s.start_time < ? AND (s.series_end_time > ? OR s.start_time >= ?) ORDER BY s.start_time";
+        Object[] args = {userId, Timestamp.valueOf(SHORT_FROM), Timestamp.valueOf(TO), Timestamp.valueOf(FROM),
+                Timestamp.valueOf(FROM)};
+        assertThat(explainKey("s", sql, args)).isEqualTo("idx_schedules_user_span_start");
+        // 사용자의 지난 기록 전체가 아니라 두 범위(짧은 일정 최근 구간 + 긴 일정)만 읽음
+        assertThat(explainRows("s", sql, args)).isLessThan(HISTORY_DAYS / 10);
+    }
+
+    private Long insertSchedule(Long userId, LocalDateTime start, LocalDateTime end, LocalDateTime seriesEnd,
+                                String frequency) {
+        jdbcTemplate.update("INSERT INTO schedules (user_id, title, start_time, end_time, series_end_time, " +
+                        "recurrence_frequency, recurrence_interval, is_completed) VALUES (?, ?, ?, ?, ?, ?, ?, false)",
+                userId, "schedule", Timestamp.valueOf(start), Timestamp.valueOf(end), Timestamp.valueOf(seriesEnd),
+                frequency, frequency != null ? 1 : null);
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+
+    // 실행 계획에서 해당 테이블을 읽을 예상 행 수
+    private long explainRows(String table, String sql, Object... args) {
+        List<Long> rows = new ArrayList<>();
+        jdbcTemplate.query("EXPLAIN " + sql, rs -> {
+            if (table.equals(rs.getString("table"))) {
+                rows.add(rs.getLong("rows"));
+            }
+        }, args);
+        return rows.get(0);
+    }
+}
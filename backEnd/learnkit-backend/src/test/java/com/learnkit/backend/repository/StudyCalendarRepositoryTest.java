@@ -0,0 +1,45 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.StudyCalendar;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyCalendarRepositoryTest extends MySqlRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private StudyCalendarRepository studyCalendarRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("이미 있는 달력은 다시 추가하지 않고 표시한 날도 유지함")
+    void createIfAbsent() {
+        Long userId = insertUser("calendar@learnkit.com");
+
+        studyCalendarRepository.createIfAbsent(userId, DAY.getYear(), new byte[StudyCalendar.BYTE_LENGTH],
+                LocalDateTime.now());
+        studyCalendarRepository.findForUpdate(userId, DAY.getYear()).orElseThrow().markStudied(DAY);
+        entityManager.flush();
+        entityManager.clear();
+
+        studyCalendarRepository.createIfAbsent(userId, DAY.getYear(), new byte[StudyCalendar.BYTE_LENGTH],
+                LocalDateTime.now());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM study_calendars WHERE user_id = ?", Integer.class, userId)).isEqualTo(1);
+        StudyCalendar calendar = studyCalendarRepository.findByUserIdAndYear(userId, DAY.getYear()).orElseThrow();
+        assertThat(calendar.toBitSet().get(DAY.getDayOfYear() - 1)).isTrue();
+        assertThat(calendar.toBitSet().cardinality()).isEqualTo(1);
+    }
+}
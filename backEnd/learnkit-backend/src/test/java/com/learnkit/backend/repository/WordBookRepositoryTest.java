@@ -0,0 +1,78 @@
+package com.learnkit.backend.repository;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.Card;
+import com.learnkit.backend.domain.WordBook;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단어장 조회 시 소유 사용자(users 행)를 함께 읽지 않는지 실행한 SQL 문 수로 확인 (WordBook.user 지연 로딩 회귀 테스트)
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WordBookRepositoryTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private WordBookRepository wordBookRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long wordBookId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("wordbook@learnkit.com");
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO wordbooks (user_id, title, hard_frequency_ratio, normal_frequency_ratio, " +
+                    "easy_frequency_ratio) VALUES (?, ?, 6, 3, 1)", userId, "words" + i);
+        }
+        wordBookId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM wordbooks WHERE user_id = ?", Long.class, userId);
+        jdbcTemplate.update("INSERT INTO cards (wordbook_id, front_text, back_text, review_priority, view_count) " +
+                "VALUES (?, 'front', 'back', 1, 0)", wordBookId);
+
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("사용자의 단어장 목록은 단어장 조회 한 문장으로 끝나고, 소유자 ID는 추가 조회 없이 읽음")
+    void findByUserId() {
+        List<WordBook> wordBooks = wordBookRepository.findByUserId(userId);
+
+        assertThat(wordBooks).hasSize(3);
+        assertThat(wordBooks).allSatisfy(wordBook -> {
+            assertThat(Hibernate.isInitialized(wordBook.getUser())).isFalse();
+            assertThat(wordBook.getUser().getId()).isEqualTo(userId);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카드에서 단어장으로 이동해도 단어장 행만 읽고 사용자 행은 읽지 않음")
+    void cardToWordBook() {
+        Card card = cardRepository.findFirstByWordBookIdOrderByReviewPriorityAsc(wordBookId).orElseThrow();
+        WordBook wordBook = card.getWordBook();
+
+        assertThat(wordBook.getTitle()).isEqualTo("words0");
+        assertThat(Hibernate.isInitialized(wordBook.getUser())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 카드 + 단어장
+    }
+}
@@ -0,0 +1,86 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.MySqlRepositoryTest;
+import com.learnkit.backend.domain.Goal;
+import com.learnkit.backend.domain.GoalStudySession;
+import com.learnkit.backend.domain.User;
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class ActiveSessionConstraintTest extends MySqlRepositoryTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Autowired
+    private GoalStudySessionRepository goalStudySessionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("진행 중 세션이 이미 있으면 유니크 제약 위반으로 판별함")
+    void activeSessionConflict() {
+        Long userId = insertUser("conflict@learnkit.com");
+        insertSession(userId, STARTED_AT);
+
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> goalStudySessionRepository.saveAndFlush(
+                        new GoalStudySession(entityManager.getReference(User.class, userId), null)));
+
+        assertThat(ActiveSessionRegistry.isActiveSessionConflict(e, GoalStudySession.ACTIVE_USER_CONSTRAINT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 제약 위반(없는 목표)은 진행 중 세션 충돌로 보지 않음")
+    void otherIntegrityViolation() {
+        Long userId = insertUser("other@learnkit.com");
+
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> goalStudySessionRepository.saveAndFlush(new GoalStudySession(
+                        entityManager.getReference(User.class, userId), entityManager.getReference(Goal.class, -1))));
+
+        assertThat(ActiveSessionRegistry.isActiveSessionConflict(e, GoalStudySession.ACTIVE_USER_CONSTRAINT)).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("제약이 없던 DB의 중복 진행 중 세션은 사용자별 가장 최근 것만 남기고 찾아냄")
+    void findSupersededActiveSessionIds() {
+        // 제약 도입 전 DB를 흉내 내기 위해 잠시 제약을 지우고 중복 세션을 넣음
+        jdbcTemplate.execute("ALTER TABLE goal_study_sessions DROP INDEX " + GoalStudySession.ACTIVE_USER_CONSTRAINT);
+        try {
+            Long userId = insertUser("duplicate@learnkit.com");
+            Long otherUserId = insertUser("single@learnkit.com");
+            Integer oldest = insertSession(userId, STARTED_AT);
+            Integer older = insertSession(userId, STARTED_AT.plusHours(1));
+            insertSession(userId, STARTED_AT.plusHours(2));
+            insertSession(otherUserId, STARTED_AT);
+
+            assertThat(goalStudySessionRepository.findSupersededActiveSessionIds())
+                    .containsExactlyInAnyOrder(oldest, older);
+        } finally {
+            jdbcTemplate.update("DELETE FROM goal_study_sessions");
+            jdbcTemplate.update("DELETE FROM users");
+            jdbcTemplate.execute("ALTER TABLE goal_study_sessions ADD CONSTRAINT " +
+                    GoalStudySession.ACTIVE_USER_CONSTRAINT + " UNIQUE (active_user_id)");
+        }
+    }
+
+    private Integer insertSession(Long userId, LocalDateTime startedAt) {
+        jdbcTemplate.update("INSERT INTO goal_study_sessions (user_id, started_at, achieved_amount, duration_minutes, " +
+                "pomo_count) VALUES (?, ?, 0, 0, 0)", userId, Timestamp.valueOf(startedAt));
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+    }
+}
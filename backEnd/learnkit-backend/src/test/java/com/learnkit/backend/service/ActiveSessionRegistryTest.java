@@ -0,0 +1,87 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.repository.GoalStudySessionRepository;
+import com.learnkit.backend.repository.WordBookStudySessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveSessionRegistryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @Mock
+    private GoalStudySessionRepository goalStudySessionRepository;
+
+    @Mock
+    private WordBookStudySessionRepository wordBookStudySessionRepository;
+
+    @InjectMocks
+    private ActiveSessionRegistry activeSessionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 요청 트랜잭션 안에서 자리를 확보한 상태를 흉내 냄 (커밋/롤백 콜백은 실행하지 않음)
+        TransactionSynchronizationManager.initSynchronization();
+        when(wordBookStudySessionRepository.findActiveSessions()).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("재구성은 요청이 먼저 등록한 세션 ID를 덮어쓰지 않고, 없는 사용자만 채움")
+    void rebuildKeepsRegisteredSession() {
+        assertThat(activeSessionRegistry.reserve(ActiveSessionRegistry.Kind.GOAL, USER_ID, id -> true)).isTrue();
+        activeSessionRegistry.activate(ActiveSessionRegistry.Kind.GOAL, USER_ID, 20);
+        when(goalStudySessionRepository.findActiveSessions())
+                .thenReturn(List.of(active(USER_ID, 10), active(OTHER_USER_ID, 11), active(OTHER_USER_ID, 12)));
+
+        activeSessionRegistry.rebuild();
+
+        assertThat(activeSessionRegistry.activeSessionId(ActiveSessionRegistry.Kind.GOAL, USER_ID)).isEqualTo(20);
+        // 중복이 있으면 가장 최근 세션
+        assertThat(activeSessionRegistry.activeSessionId(ActiveSessionRegistry.Kind.GOAL, OTHER_USER_ID)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("재구성은 시작 중(예약된) 자리를 덮어쓰지 않음")
+    void rebuildKeepsReservedSlot() {
+        assertThat(activeSessionRegistry.reserve(ActiveSessionRegistry.Kind.GOAL, USER_ID, id -> true)).isTrue();
+        when(goalStudySessionRepository.findActiveSessions()).thenReturn(List.of(active(USER_ID, 10)));
+
+        activeSessionRegistry.rebuild();
+
+        assertThat(activeSessionRegistry.activeSessionId(ActiveSessionRegistry.Kind.GOAL, USER_ID)).isNull();
+        assertThat(activeSessionRegistry.reserve(ActiveSessionRegistry.Kind.GOAL, USER_ID, id -> false)).isFalse();
+    }
+
+    private static GoalStudySessionRepository.ActiveSession active(Long userId, Integer sessionId) {
+        return new GoalStudySessionRepository.ActiveSession() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getSessionId() {
+                return sessionId;
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.dto.AppLaunchDto;
+import com.learnkit.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderDispatcherTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int HOUR = 18;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AppLaunchService appLaunchService;
+
+    @Mock
+    private PushClient pushClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReminderDispatcher reminderDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderDispatcher, "batchSize", 500);
+        ReflectionTestUtils.setField(reminderDispatcher, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(reminderDispatcher, "maxRetries", 0);
+        ReflectionTestUtils.setField(reminderDispatcher, "retryBackoffMillis", 1L);
+        ReflectionTestUtils.setField(reminderDispatcher, "batchTimeoutMillis", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reminderDispatcher.unregister(USER_ID);
+    }
+
+    @Test
+    @DisplayName("발송할 차례인 예약은 보내고 다음 날 같은 시각으로 다시 예약함")
+    void sendAndReschedule() {
+        reminderDispatcher.register(USER_ID, "token", HOUR);
+        Object due = fireDue();
+        when(appLaunchService.calculatePeakHours(USER_ID)).thenReturn(peakHours(HOUR));
+        when(pushClient.send(any())).thenReturn(Mono.empty());
+
+        reminderDispatcher.dispatch();
+
+        verify(pushClient).send(any());
+        assertThat(reminders().get(USER_ID)).isNotNull().isNotSameAs(due);
+    }
+
+    @Test
+    @DisplayName("피크 시간대를 계산하는 사이에 해제된 예약은 다시 예약하지도 보내지도 않음")
+    void unregisteredWhileComputingPeakHours() {
+        reminderDispatcher.register(USER_ID, "token", HOUR);
+        fireDue();
+        when(appLaunchService.calculatePeakHours(USER_ID)).thenAnswer(invocation -> {
+            reminderDispatcher.unregister(USER_ID);
+            return peakHours(HOUR);
+        });
+
+        reminderDispatcher.dispatch();
+
+        assertThat(reminders()).doesNotContainKey(USER_ID);
+        verify(pushClient, never()).send(any());
+    }
+
+    // 타이밍 휠 만료를 기다리지 않고 현재 예약을 발송 대기열에 넣음
+    @SuppressWarnings("unchecked")
+    private Object fireDue() {
+        Object reminder = reminders().get(USER_ID);
+        ((Queue<Object>) ReflectionTestUtils.getField(reminderDispatcher, "dueReminders")).add(reminder);
+        return reminder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object> reminders() {
+        return (Map<Long, Object>) ReflectionTestUtils.getField(reminderDispatcher, "reminders");
+    }
+
+    private static AppLaunchDto.PeakHoursResponse peakHours(int reminderHour) {
+        return new AppLaunchDto.PeakHoursResponse(reminderHour + 1, 10, LocalDate.now().atTime(reminderHour, 0));
+    }
+}
@@ -0,0 +1,100 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.Schedule;
+import com.learnkit.backend.domain.User;
+import com.learnkit.backend.dto.ScheduleDto;
+import com.learnkit.backend.exception.custom.ScheduleConflictException;
+import com.learnkit.backend.repository.ScheduleRepository;
+import com.learnkit.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 10, 19, 10, 0);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ScheduleIntervalCache scheduleIntervalCache;
+
+    @InjectMocks
+    private ScheduleService scheduleService;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+    }
+
+    @Test
+    @DisplayName("충돌 확인은 회차 범위와 겹치는 일정만 조회해 확인하고 캐시된 트리를 쓰지 않음")
+    void conflictCheckedWithRangeQuery() {
+        // 매주 월요일 10시 ~ 11시 반복 일정
+        Schedule weekly = schedule(7L, "study", MONDAY, MONDAY.plusHours(1));
+        weekly.updateRecurrence(Schedule.Frequency.WEEKLY, 1, null, null);
+        // 3주 뒤 월요일 10시 30분 ~ 11시 30분 일정을 새로 만들면 4번째 회차와 겹침
+        LocalDateTime start = MONDAY.plusWeeks(3).plusMinutes(30);
+        when(scheduleRepository.findOverlapping(USER_ID, start, start.plusHours(1), start.minusDays(Schedule.SHORT_SPAN_DAYS)))
+                .thenReturn(List.of(weekly));
+
+        assertThatThrownBy(() -> scheduleService.createSchedule(USER_ID, request(start, start.plusHours(1))))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessageContaining("study");
+        verify(scheduleIntervalCache, never()).tree(anyLong());
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("범위 안의 일정이라도 회차가 겹치지 않으면 저장함")
+    void noConflictBetweenOccurrences() {
+        Schedule weekly = schedule(7L, "study", MONDAY, MONDAY.plusHours(1));
+        weekly.updateRecurrence(Schedule.Frequency.WEEKLY, 1, null, null);
+        // 반복 일정 기간 안이지만 화요일이라 회차와 겹치지 않음
+        LocalDateTime start = MONDAY.plusWeeks(3).plusDays(1);
+        when(scheduleRepository.findOverlapping(USER_ID, start, start.plusHours(1), start.minusDays(Schedule.SHORT_SPAN_DAYS)))
+                .thenReturn(List.of(weekly));
+        when(scheduleRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        scheduleService.createSchedule(USER_ID, request(start, start.plusHours(1)));
+
+        verify(scheduleRepository).save(any());
+        verify(scheduleIntervalCache, never()).tree(anyLong());
+    }
+
+    private static Schedule schedule(Long id, String title, LocalDateTime start, LocalDateTime end) {
+        Schedule schedule = new Schedule(title, null, start, end);
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+
+    private static ScheduleDto.CreateRequest request(LocalDateTime start, LocalDateTime end) {
+        ScheduleDto.CreateRequest request = new ScheduleDto.CreateRequest();
+        request.setTitle("new");
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
@@ -0,0 +1,42 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.exception.custom.InvalidRequestException;
+import com.learnkit.backend.repository.DailyStudySummaryRepository;
+import com.learnkit.backend.repository.StudyCalendarRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StudyCalendarServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private StudyCalendarRepository studyCalendarRepository;
+
+    @Mock
+    private DailyStudySummaryRepository dailyStudySummaryRepository;
+
+    @InjectMocks
+    private StudyCalendarService studyCalendarService;
+
+    @Test
+    @DisplayName("범위를 벗어난 연도는 DB를 조회하지 않고 잘못된 요청으로 거절함")
+    void yearOutOfRange() {
+        int nextYear = LocalDate.now().getYear() + 1;
+        for (int year : new int[]{1_000_000_000, -5, StudyCalendarService.MIN_YEAR - 1, nextYear + 1}) {
+            assertThatThrownBy(() -> studyCalendarService.getCalendar(USER_ID, year))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+        verifyNoInteractions(studyCalendarRepository, dailyStudySummaryRepository);
+    }
+}
@@ -0,0 +1,118 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.domain.Goal;
+import com.learnkit.backend.dto.StudyPlanDto;
+import com.learnkit.backend.repository.GoalPaceRepository;
+import com.learnkit.backend.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudyPlanServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalPaceRepository goalPaceRepository;
+
+    @Mock
+    private ScheduleIntervalCache scheduleIntervalCache;
+
+    @InjectMocks
+    private StudyPlanService studyPlanService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(studyPlanService, "dayStartHour", 9);
+        ReflectionTestUtils.setField(studyPlanService, "dayEndHour", 22);
+        ReflectionTestUtils.setField(studyPlanService, "defaultMinutesPerUnit", 10.0);
+        ReflectionTestUtils.setField(studyPlanService, "minBlockMinutes", 15);
+        when(goalPaceRepository.findAllById(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("계획 기간 중에 마감되는 목표는 빈 시간이 없어도 마감 다음 날부터 배치하지 않음")
+    void goalEndingInsideWindowWithoutFreeTime() {
+        // 10월 21일 마감, 남은 분량 30 x 10분 = 300분
+        Goal goal = goal(1, "영단어", FROM, FROM.plusDays(2), 30);
+        when(goalRepository.findByUserIdAndIsCompleted(USER_ID, false)).thenReturn(List.of(goal));
+        // 계획 기간 내내 일정이 있어 빈 시간이 없음
+        when(scheduleIntervalCache.tree(USER_ID)).thenReturn(busyTree(FROM.atStartOfDay(), FROM.plusDays(7).atStartOfDay()));
+
+        StudyPlanDto.Response response = studyPlanService.plan(USER_ID, FROM, 7);
+
+        assertThat(response.getBlocks()).isEmpty();
+        StudyPlanDto.GoalPlan plan = response.getGoals().get(0);
+        assertThat(plan.getPlannedMinutes()).isZero();
+        // 마감일까지 배치하지 못한 남은 시간 전부 (날마다 다시 나눈 필요량을 중복해 더하지 않음)
+        assertThat(plan.getShortfallMinutes()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("계획 기간 중에 마감되는 목표는 마감일까지만 배치함")
+    void goalEndingInsideWindowIsPlannedUntilEndDate() {
+        LocalDate endDate = FROM.plusDays(2);
+        Goal goal = goal(1, "영단어", FROM, endDate, 90);
+        when(goalRepository.findByUserIdAndIsCompleted(USER_ID, false)).thenReturn(List.of(goal));
+        when(scheduleIntervalCache.tree(USER_ID)).thenReturn(new ScheduleIntervalTree(List.of()));
+
+        StudyPlanDto.Response response = studyPlanService.plan(USER_ID, FROM, 7);
+
+        assertThat(response.getBlocks())
+                .allSatisfy(block -> assertThat(block.getStartTime().toLocalDate()).isBeforeOrEqualTo(endDate));
+        StudyPlanDto.GoalPlan plan = response.getGoals().get(0);
+        assertThat(plan.getPlannedMinutes()).isEqualTo(900);
+        assertThat(plan.getShortfallMinutes()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감이 계획 기간 뒤인 목표는 기간 이후 몫을 빼고 부족분을 계산함")
+    void goalEndingAfterWindow() {
+        // 14일 마감, 남은 분량 140 x 10분 = 1400분 -> 7일 계획 기간의 몫은 700분
+        Goal busy = goal(1, "영단어", FROM, FROM.plusDays(13), 140);
+        Goal free = goal(2, "문법", FROM, FROM.plusDays(13), 140);
+        when(goalRepository.findByUserIdAndIsCompleted(USER_ID, false)).thenReturn(List.of(busy));
+        when(scheduleIntervalCache.tree(USER_ID)).thenReturn(busyTree(FROM.atStartOfDay(), FROM.plusDays(7).atStartOfDay()));
+
+        StudyPlanDto.GoalPlan plan = studyPlanService.plan(USER_ID, FROM, 7).getGoals().get(0);
+
+        assertThat(plan.getShortfallMinutes()).isEqualTo(700);
+
+        when(goalRepository.findByUserIdAndIsCompleted(USER_ID, false)).thenReturn(List.of(free));
+        when(scheduleIntervalCache.tree(USER_ID)).thenReturn(new ScheduleIntervalTree(List.of()));
+
+        plan = studyPlanService.plan(USER_ID, FROM, 7).getGoals().get(0);
+
+        assertThat(plan.getPlannedMinutes()).isEqualTo(700);
+        assertThat(plan.getShortfallMinutes()).isZero();
+    }
+
+    private static Goal goal(int id, String title, LocalDate startDate, LocalDate endDate, int totalTargetAmount) {
+        Goal goal = new Goal(title, startDate, endDate, totalTargetAmount, "개");
+        ReflectionTestUtils.setField(goal, "id", id);
+        return goal;
+    }
+
+    private static ScheduleIntervalTree busyTree(LocalDateTime start, LocalDateTime end) {
+        return new ScheduleIntervalTree(List.of(new ScheduleIntervalTree.Entry(
+                1L, "출장", start, end, end, null, null, null, List.of())));
+    }
+}
@@ -0,0 +1,72 @@
+package com.learnkit.backend.service;
+
+import com.learnkit.backend.dto.WeeklyStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyHistoryCacheTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 10, 5);
+
+    private WeeklyHistoryCache weeklyHistoryCache;
+
+    @BeforeEach
+    void setUp() {
+        weeklyHistoryCache = new WeeklyHistoryCache();
+        ReflectionTestUtils.setField(weeklyHistoryCache, "maxCachedUsers", 2);
+    }
+
+    @Test
+    @DisplayName("세대는 사용자 수만큼 쌓이지 않고 캐시 크기로 제한됨")
+    void generationsAreBounded() {
+        for (long userId = 1; userId <= 100; userId++) {
+            weeklyHistoryCache.evict(userId, WEEK_START);
+        }
+
+        assertThat(generations()).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계산 중에 무효화된 사용자의 요약은 세대가 지워진 뒤에도 저장하지 않음")
+    void staleSummaryRejectedAfterGenerationEvicted() {
+        long generation = weeklyHistoryCache.generation(1L);
+        weeklyHistoryCache.evict(1L, WEEK_START);
+        // 다른 사용자들의 무효화로 사용자 1의 세대가 지워짐
+        weeklyHistoryCache.evict(2L, WEEK_START);
+        weeklyHistoryCache.evict(3L, WEEK_START);
+        weeklyHistoryCache.evict(4L, WEEK_START);
+        assertThat(generations()).doesNotContainKey(1L);
+
+        weeklyHistoryCache.putAll(1L, generation, List.of(summary()));
+
+        assertThat(weeklyHistoryCache.get(1L, WEEK_START)).isNull();
+    }
+
+    @Test
+    @DisplayName("계산 중에 무효화가 없었으면 요약을 저장함")
+    void summaryStoredWithoutInvalidation() {
+        weeklyHistoryCache.evict(1L, WEEK_START);
+        long generation = weeklyHistoryCache.generation(1L);
+
+        weeklyHistoryCache.putAll(1L, generation, List.of(summary()));
+
+        assertThat(weeklyHistoryCache.get(1L, WEEK_START)).isNotNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> generations() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(weeklyHistoryCache, "generations");
+    }
+
+    private static WeeklyStatsDto.WeekSummary summary() {
+        return new WeeklyStatsDto.WeekSummary(WEEK_START, null, null, 0, 0);
+    }
+}
@@ -1,3 +1,46 @@
+import 'card.dart';
+import 'schedule.dart';
+import 'study_session.dart';
+import 'wordbook.dart';
+
+/// 홈 화면 한 번 조회 결과 (GET /users/{userId}/home)
+/// 서버는 주간 통계/피크 시간도 함께 보내지만 홈 화면에서 쓰는 항목만 읽음
+class HomeSummary {
+  final List<Schedule> schedules;
+  final List<WordBook> wordBooks;
+  final CardStatistics cardStatistics;
+  final StudySession? activeGoalSession;
+  final StudySession? activeWordBookSession;
+
+  HomeSummary({
+    required this.schedules,
+    required this.wordBooks,
+    required this.cardStatistics,
+    this.activeGoalSession,
+    this.activeWordBookSession,
+  });
+
+  factory HomeSummary.fromJson(Map<String, dynamic> json) {
+    return HomeSummary(
+      schedules: (json['schedules'] as List<dynamic>? ?? [])
+          .map((item) => Schedule.fromJson(item))
+          .toList(),
+      wordBooks: (json['wordBooks'] as List<dynamic>? ?? [])
+          .map((item) => WordBook.fromJson(item))
+          .toList(),
+      cardStatistics: json['cardStatistics'] != null
+          ? CardStatistics.fromJson(json['cardStatistics'])
+          : CardStatistics.empty(),
+      activeGoalSession: json['activeGoalSession'] != null
+          ? StudySession.fromJson(json['activeGoalSession'])
+          : null,
+      activeWordBookSession: json['activeWordBookSession'] != null
+          ? StudySession.fromJson(json['activeWordBookSession'])
+          : null,
+    );
+  }
+}
+
 /// 홈 화면에서 표시될 데이터 모델
 class HomeData {
   final String date;
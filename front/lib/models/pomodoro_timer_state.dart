@@ -0,0 +1,30 @@
+/// 서버 포모도로 타이머 상태 모델
+/// GET/PATCH /goal-study-sessions/{id}/timer 응답 및 SSE 'timer' 이벤트 데이터
+class PomodoroTimerState {
+  final int sessionId;
+  final String event; // SNAPSHOT, STARTED, PAUSED, RESET, FOCUS_COMPLETED, BREAK_COMPLETED, ENDED
+  final String phase; // FOCUS, SHORT_BREAK, LONG_BREAK
+  final bool running;
+  final int remainingSeconds;
+  final int pomoCount;
+
+  PomodoroTimerState({
+    required this.sessionId,
+    required this.event,
+    required this.phase,
+    required this.running,
+    required this.remainingSeconds,
+    required this.pomoCount,
+  });
+
+  factory PomodoroTimerState.fromJson(Map<String, dynamic> json) {
+    return PomodoroTimerState(
+      sessionId: json['sessionId'],
+      event: json['event'] ?? 'SNAPSHOT',
+      phase: json['phase'] ?? 'FOCUS',
+      running: json['running'] ?? false,
+      remainingSeconds: json['remainingSeconds'] ?? 0,
+      pomoCount: json['pomoCount'] ?? 0,
+    );
+  }
+}
@@ -7,6 +7,9 @@ class Schedule {
   final DateTime? startTime;
   final DateTime? endTime;
   final bool isCompleted;
+  final String? recurrenceFrequency; // DAILY, WEEKLY, MONTHLY (단일 일정이면 null)
+  final int? recurrenceInterval;
+  final DateTime? recurrenceUntil;
   final DateTime createdAt;
   final DateTime updatedAt;
 
@@ -18,6 +21,9 @@ class Schedule {
     this.startTime,
     this.endTime,
     this.isCompleted = false,
+    this.recurrenceFrequency,
+    this.recurrenceInterval,
+    this.recurrenceUntil,
     required this.createdAt,
     required this.updatedAt,
   });
@@ -33,11 +39,17 @@ class Schedule {
       startTime: json['startTime'] != null ? DateTime.parse(json['startTime']) : null,
       endTime: json['endTime'] != null ? DateTime.parse(json['endTime']) : null,
       isCompleted: json['completed'] ?? json['isCompleted'] ?? false,
+      recurrenceFrequency: json['recurrenceFrequency'],
+      recurrenceInterval: json['recurrenceInterval'],
+      recurrenceUntil: json['recurrenceUntil'] != null ? DateTime.parse(json['recurrenceUntil']) : null,
       createdAt: json['createdAt'] != null ? DateTime.parse(json['createdAt']) : DateTime.now(),
       updatedAt: json['updatedAt'] != null ? DateTime.parse(json['updatedAt']) : DateTime.now(),
     );
   }
 
+  /// 반복 일정 여부 (기간 조회 시 회차마다 startTime/endTime이 다른 항목으로 옴)
+  bool get isRecurring => recurrenceFrequency != null;
+
   /// 백엔드로 보낼 JSON (생성/수정용 - id, userId, timestamps 제외)
   Map<String, dynamic> toJson() {
     return {
@@ -45,6 +57,9 @@ class Schedule {
       'description': description,
       'startTime': startTime?.toIso8601String(),
       'endTime': endTime?.toIso8601String(),
+      if (recurrenceFrequency != null) 'recurrenceFrequency': recurrenceFrequency,
+      if (recurrenceInterval != null) 'recurrenceInterval': recurrenceInterval,
+      if (recurrenceUntil != null) 'recurrenceUntil': recurrenceUntil!.toIso8601String(),
     };
   }
 }
@@ -118,3 +118,21 @@ class StudySession {
     };
   }
 }
+
+/// 학습 타임라인 한 페이지
+class StudySessionPage {
+  final List<StudySession> sessions;
+  final String? nextCursor; // 다음 페이지가 없으면 null
+
+  StudySessionPage({required this.sessions, this.nextCursor});
+
+  bool get hasMore => nextCursor != null;
+
+  factory StudySessionPage.fromJson(Map<String, dynamic> json) {
+    final List<dynamic> items = json['items'] ?? [];
+    return StudySessionPage(
+      sessions: items.map((item) => StudySession.fromJson(item)).toList(),
+      nextCursor: json['nextCursor'],
+    );
+  }
+}
@@ -66,8 +66,7 @@ class _HomeScreenState extends State<HomeScreen> {
   void initState() {
     super.initState();
     _initAuth(); // 인증 초기화
-    _loadAllDataParallel(); // 모든 데이터 병렬 로드
-    _checkActiveSession(); // 진행 중인 학습 세션 확인
+    _loadAllDataParallel(); // 홈 데이터 로드 (진행 중인 학습 세션 확인 포함)
   }
 
   /// 인증 서비스 초기화
@@ -79,12 +78,13 @@ class _HomeScreenState extends State<HomeScreen> {
     });
   }
 
-  /// 모든 데이터를 병렬로 로드
-  /// Future.wait()를 사용하여 여러 API 동시 호출로 속도 향상
+  /// 홈 데이터 로드
+  /// 홈 API 한 번으로 일정, 단어장 통계, 진행 중인 세션을 받아옴 (서버에서 병렬 조회)
   ///
-  /// 로드 항목:
+  /// 홈 API를 쓸 수 없으면 개별 API로 병렬 로드:
   /// - 일정 데이터 (_loadSchedules)
   /// - 단어장 통계 (_loadWordBookStats)
+  /// - 진행 중인 세션 (_checkActiveSession)
   Future<void> _loadAllDataParallel() async {
     setState(() {
       _isLoading = true;
@@ -92,11 +92,29 @@ class _HomeScreenState extends State<HomeScreen> {
     });
 
     try {
-      // Future.wait: 여러 Future를 동시 실행하고 모두 완료될 때까지 대기
-      await Future.wait([
-        _loadSchedules(),
-        _loadWordBookStats(),
-      ]);
+      final now = DateTime.now();
+      final home = await ApiService.fetchHome(
+        userId: _userId,
+        start: DateTime(now.year, now.month - 1, 1),
+        end: DateTime(now.year, now.month + 2, 1), // 다음 달 말일까지 (end 미포함)
+      );
+
+      if (home != null) {
+        _applySchedules(home.schedules);
+        setState(() {
+          _learnedCards = home.cardStatistics.easyCount;
+          _reviewCards = home.cardStatistics.normalCount;
+          _difficultCards = home.cardStatistics.hardCount;
+        });
+        _showActiveSessions(home.activeGoalSession, home.activeWordBookSession);
+      } else {
+        // Future.wait: 여러 Future를 동시 실행하고 모두 완료될 때까지 대기
+        await Future.wait([
+          _loadSchedules(),
+          _loadWordBookStats(),
+        ]);
+        _checkActiveSession();
+      }
 
       setState(() {
         _isLoading = false;
@@ -113,39 +131,43 @@ class _HomeScreenState extends State<HomeScreen> {
     try {
       final now = DateTime.now();
       final start = DateTime(now.year, now.month - 1, 1);
-      final end = DateTime(now.year, now.month + 2, 0);
+      final end = DateTime(now.year, now.month + 2, 1); // 다음 달 말일까지 (end 미포함)
       
       final schedules = await ApiService.fetchSchedules(
         userId: _userId,
         start: start,
         end: end,
       );
-      
-      final Map<DateTime, List<Schedule>> scheduleMap = {};
-      for (var schedule in schedules) {
-        // startTime이 없으면 건너뛰기
-        if (schedule.startTime == null) continue;
-        
-        final normalizedDate = DateTime(
-          schedule.startTime!.year,
-          schedule.startTime!.month,
-          schedule.startTime!.day,
-        );
-        if (scheduleMap[normalizedDate] == null) {
-          scheduleMap[normalizedDate] = [];
-        }
-        scheduleMap[normalizedDate]!.add(schedule);
-      }
-      
-      setState(() {
-        _schedules = scheduleMap;
-        _updateSelectedDateSchedules();
-      });
+      _applySchedules(schedules);
     } catch (e) {
       // 에러 처리
     }
   }
 
+  /// 일정 목록을 날짜별 맵으로 정리하여 화면에 반영
+  void _applySchedules(List<Schedule> schedules) {
+    final Map<DateTime, List<Schedule>> scheduleMap = {};
+    for (var schedule in schedules) {
+      // startTime이 없으면 건너뛰기
+      if (schedule.startTime == null) continue;
+
+      final normalizedDate = DateTime(
+        schedule.startTime!.year,
+        schedule.startTime!.month,
+        schedule.startTime!.day,
+      );
+      if (scheduleMap[normalizedDate] == null) {
+        scheduleMap[normalizedDate] = [];
+      }
+      scheduleMap[normalizedDate]!.add(schedule);
+    }
+
+    setState(() {
+      _schedules = scheduleMap;
+      _updateSelectedDateSchedules();
+    });
+  }
+
   void _updateSelectedDateSchedules() {
     final normalizedDate = DateTime(
       _selectedDate.year,
@@ -155,7 +177,19 @@ class _HomeScreenState extends State<HomeScreen> {
     _selectedDateSchedules = _schedules[normalizedDate] ?? [];
   }
 
-  /// 앱 시작 시 진행 중인 세션 확인
+  /// 홈 데이터에 포함된 진행 중인 세션이 있으면 팝업 표시
+  void _showActiveSessions(dynamic activePomodoroSession, dynamic activeWordBookSession) {
+    if (!mounted) return;
+    if (activePomodoroSession != null) {
+      _showActiveSessionDialog(activePomodoroSession);
+    }
+    if (activeWordBookSession != null) {
+      Log.d('⚠️ 진행 중인 단어장 학습 세션 발견 (ID=${activeWordBookSession.id})');
+      _showWordBookSessionDialog(activeWordBookSession);
+    }
+  }
+
+  /// 앱 시작 시 진행 중인 세션 확인 (개별 API)
   Future<void> _checkActiveSession() async {
     try {
       // 목표 학습 세션 확인
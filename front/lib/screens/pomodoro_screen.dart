@@ -16,17 +16,18 @@ import '../services/logger_service.dart';
 // 데이터 모델
 import '../models/goal.dart';
 import '../models/study_session.dart';
+import '../models/pomodoro_timer_state.dart';
 // API 통신 및 인증
 import '../services/api_service.dart';
 import '../services/auth_service.dart';
 // 설정 Provider (센서 활성화 여부)
 import '../providers/settings_provider.dart';
 
-/// ⏱️ 포모도로 시간 설정 (테스트용으로 쉽게 변경 가능)
-/// 실제 배포 시: focusMinutes = 25, shortBreakMinutes = 5, longBreakMinutes = 30
-const int focusMinutes = 1;       // 집중 시간 (분) - 테스트: 1분으로 변경 가능
-const int shortBreakMinutes = 1;  // 짧은 휴식 (분) - 테스트: 1분으로 변경 가능
-const int longBreakMinutes = 2;   // 장휴식 (분) - 테스트: 2분으로 변경 가능
+/// ⏱️ 포모도로 시간 설정 (진행률 표시용)
+/// 실제 시간은 서버 타이머가 관리하므로 서버 설정(learnkit.pomodoro.*)과 같은 값으로 유지
+const int focusMinutes = 25;      // 집중 시간 (분)
+const int shortBreakMinutes = 5;  // 짧은 휴식 (분)
+const int longBreakMinutes = 30;  // 장휴식 (분)
 
 /// 포모도로 타이머 상태
 enum PomodoroState {
@@ -61,8 +62,9 @@ class _PomodoroScreenState extends State<PomodoroScreen> {
   int _completedSets = 0; // 완료한 세트 수 (1세트 = 25분 집중)
   int _totalPomodoros = 0; // 총 완료한 포모도로 횟수
 
-  // 타이머
+  // 타이머 (화면 표시용 1초 틱, 단계 전환은 서버 이벤트로 처리)
   Timer? _timer;
+  StreamSubscription<PomodoroTimerState>? _timerEventSubscription;
   int _remainingSeconds = focusMinutes * 60; // 기본 집중 시간
   bool _isRunning = false;
 
@@ -178,28 +180,75 @@ class _PomodoroScreenState extends State<PomodoroScreen> {
         }
       }
     });
+
+    // 서버 타이머 구독 (다른 기기에서 실행 중이면 현재 남은 시간으로 이어서 표시)
+    _subscribeTimerEvents(session.id);
   }
 
-  /// 포모도로 카운트를 서버에 실시간 업데이트
-  /// 앱 강제 종료 시에도 진행 상황이 보존되도록 매 포모도로 완료마다 호출
-  Future<void> _updatePomoCountToServer() async {
-    if (_currentSession != null) {
-      try {
-        await ApiService.updatePomoCount(
-          sessionId: _currentSession!.id,
-          pomoCount: _totalPomodoros,
-        );
-        Log.d('포모도로 카운트 업데이트 성공: $_totalPomodoros');
-      } catch (e) {
-        Log.d('포모도로 카운트 업데이트 실패: $e');
-        // 에러가 발생해도 사용자 경험을 방해하지 않도록 조용히 실패
+  /// 서버 타이머 이벤트 구독
+  /// 포모도로 카운트는 집중 완료 시 서버가 직접 올리므로 별도로 업데이트하지 않음
+  void _subscribeTimerEvents(int sessionId) {
+    _timerEventSubscription?.cancel();
+    _timerEventSubscription = ApiService.pomodoroTimerEvents(sessionId).listen(
+      _onTimerEvent,
+      onError: (e) => Log.d('타이머 이벤트 구독 실패: $e'),
+    );
+  }
+
+  /// 서버 타이머 이벤트 처리
+  void _onTimerEvent(PomodoroTimerState state) {
+    if (!mounted) return;
+
+    switch (state.event) {
+      case 'FOCUS_COMPLETED':
+        _onFocusCompleted(state);
+        break;
+      case 'BREAK_COMPLETED':
+        _onBreakCompleted(state);
+        break;
+      case 'ENDED':
+        _timer?.cancel();
+        break;
+      default:
+        _applyTimerState(state);
+    }
+  }
+
+  /// 서버 타이머 상태를 화면에 반영
+  void _applyTimerState(PomodoroTimerState state) {
+    setState(() {
+      _pomodoroState = _toPomodoroState(state.phase);
+      _remainingSeconds = state.remainingSeconds;
+      _totalPomodoros = state.pomoCount;
+      _completedSets = state.pomoCount;
+      _isRunning = state.running;
+      if (state.running) {
+        _waitingForFlip = false;
       }
+    });
+
+    if (state.running) {
+      _startLocalTicker();
+    } else {
+      _timer?.cancel();
+    }
+  }
+
+  PomodoroState _toPomodoroState(String phase) {
+    switch (phase) {
+      case 'SHORT_BREAK':
+        return PomodoroState.shortBreak;
+      case 'LONG_BREAK':
+        return PomodoroState.longBreak;
+      default:
+        return PomodoroState.focus;
     }
   }
 
   @override
   void dispose() {
     _timer?.cancel();
+    _timerEventSubscription?.cancel();
     _accelerometerSubscription?.cancel();
     super.dispose();
   }
@@ -303,18 +352,31 @@ class _PomodoroScreenState extends State<PomodoroScreen> {
       }
     }
 
+    if (_timerEventSubscription == null) {
+      _subscribeTimerEvents(_currentSession!.id);
+    }
+
     setState(() {
       _isRunning = true;
     });
+    _startLocalTicker();
 
+    try {
+      final state = await ApiService.startPomodoroTimer(_currentSession!.id);
+      if (mounted) _applyTimerState(state);
+    } catch (e) {
+      Log.d('타이머 시작 실패: $e');
+    }
+  }
+
+  /// 화면 표시용 1초 틱 (0이 되면 서버의 완료 이벤트를 기다림)
+  void _startLocalTicker() {
+    _timer?.cancel();
     _timer = Timer.periodic(const Duration(seconds: 1), (timer) {
       if (_remainingSeconds > 0) {
         setState(() {
           _remainingSeconds--;
         });
-      } else {
-        // 타이머 완료
-        _onTimerComplete();
       }
     });
   }
@@ -325,6 +387,17 @@ class _PomodoroScreenState extends State<PomodoroScreen> {
       _isRunning = false;
     });
     _timer?.cancel();
+    _sendTimerCommand(ApiService.pausePomodoroTimer);
+  }
+
+  /// 서버 타이머에 명령 전송 (결과 상태는 구독 중인 이벤트로도 전달됨)
+  Future<void> _sendTimerCommand(Future<PomodoroTimerState> Function(int sessionId) command) async {
+    if (_currentSession == null) return;
+    try {
+      await command(_currentSession!.id);
+    } catch (e) {
+      Log.d('타이머 요청 실패: $e');
+    }
   }
 
   /// 폰을 뒤집었을 때 (화면이 바닥을 향함)
@@ -490,67 +563,41 @@ class _PomodoroScreenState extends State<PomodoroScreen> {
       _isRunning = false;
     });
     _timer?.cancel();
+    _sendTimerCommand(ApiService.resetPomodoroTimer);
   }
 
-  /// 타이머 완료 시 처리
-  void _onTimerComplete() {
-    _timer?.cancel();
-    setState(() {
-      _isRunning = false;
-    });
-
+  /// 집중 완료 (서버 이벤트)
+  /// 서버가 포모도로 카운트를 올리고 휴식을 자동으로 시작함 (4세트마다 장휴식)
+  void _onFocusCompleted(PomodoroTimerState state) {
     _vibrate(); // 진동
+    _applyTimerState(state);
 
-    if (_pomodoroState == PomodoroState.focus) {
-      // 집중 세션 완료
-      setState(() {
-        _completedSets++;
-        _totalPomodoros++;
-      });
-
-      // 포모도로 카운트를 서버에 실시간 업데이트 (앱 강제 종료 대비)
-      _updatePomoCountToServer();
-
-      // 4세트 완료 시 장휴식, 아니면 짧은 휴식 - 자동으로 시작
-      if (_completedSets % 4 == 0) {
-        _showPomodoroPopup('장휴식 시작!\n30분 동안 푹 쉬세요');
-        _startBreak(PomodoroState.longBreak);  // 자동으로 장휴식 시작
-      } else {
-        _showPomodoroPopup('휴식 시작!\n5분 쉬어가세요');
-        _startBreak(PomodoroState.shortBreak);  // 자동으로 짧은 휴식 시작
-      }
+    if (_pomodoroState == PomodoroState.longBreak) {
+      _showPomodoroPopup('장휴식 시작!\n30분 동안 푹 쉬세요');
     } else {
-      // 휴식 완료 - 다음 포모도로 준비
-      _vibrate();
-      
-      if (_sensorEnabled) {
-        // 센서 사용 시: 폰 뒤집기 대기
-        _showPomodoroPopup('${_totalPomodoros + 1}포모 준비!\n폰을 뒤집으세요');
-        setState(() {
-          _pomodoroState = PomodoroState.focus;
-          _remainingSeconds = focusMinutes * 60;
-          _waitingForFlip = true;  // 폰 뒤집기 대기
-        });
-      } else {
-        // 센서 미사용 시: 버튼 대기
-        _showPomodoroPopup('${_totalPomodoros + 1}포모 준비 완료!');
-        setState(() {
-          _pomodoroState = PomodoroState.focus;
-          _remainingSeconds = focusMinutes * 60;
-          _waitingForFlip = false; // 대기 없음
-          _isRunning = false;      // 정지 상태 (사용자가 시작 눌러야 함)
-        });
-      }
+      _showPomodoroPopup('휴식 시작!\n5분 쉬어가세요');
     }
   }
 
-  /// 휴식 시작
-  void _startBreak(PomodoroState breakState) {
-    setState(() {
-      _pomodoroState = breakState;
-      _remainingSeconds = breakState == PomodoroState.longBreak ? longBreakMinutes * 60 : shortBreakMinutes * 60;
-    });
-    _startTimer();
+  /// 휴식 완료 (서버 이벤트) - 다음 포모도로 준비
+  /// 서버 타이머는 집중 단계로 넘어가서 정지 상태
+  void _onBreakCompleted(PomodoroTimerState state) {
+    _vibrate();
+    _applyTimerState(state);
+
+    if (_sensorEnabled) {
+      // 센서 사용 시: 폰 뒤집기 대기
+      _showPomodoroPopup('${_totalPomodoros + 1}포모 준비!\n폰을 뒤집으세요');
+      setState(() {
+        _waitingForFlip = true;  // 폰 뒤집기 대기
+      });
+    } else {
+      // 센서 미사용 시: 버튼 대기 (사용자가 시작 눌러야 함)
+      _showPomodoroPopup('${_totalPomodoros + 1}포모 준비 완료!');
+      setState(() {
+        _waitingForFlip = false; // 대기 없음
+      });
+    }
   }
 
   /// 세션 종료
@@ -103,7 +103,7 @@ class _ScheduleFormScreenState extends State<ScheduleFormScreen> {
     }
   }
 
-  Future<void> _saveSchedule() async {
+  Future<void> _saveSchedule({bool allowOverlap = false}) async {
     if (!_formKey.currentState!.validate()) return;
 
     setState(() {
@@ -119,6 +119,7 @@ class _ScheduleFormScreenState extends State<ScheduleFormScreen> {
           description: _descriptionController.text.isEmpty ? null : _descriptionController.text,
           startTime: _startTime,
           endTime: _endTime,
+          allowOverlap: allowOverlap,
         );
       } else {
         // 기존 일정 수정
@@ -129,12 +130,18 @@ class _ScheduleFormScreenState extends State<ScheduleFormScreen> {
           startTime: _startTime,
           endTime: _endTime,
           isCompleted: _isCompleted,
+          allowOverlap: allowOverlap,
         );
       }
 
       if (mounted) {
         Navigator.pop(context, true); // true를 반환하여 데이터 새로고침 필요함을 알림
       }
+    } on ScheduleConflictException catch (e) {
+      // 다른 일정과 겹치면 사용자에게 확인 후 겹친 채로 다시 저장
+      if (mounted && await _confirmOverlap(e.message)) {
+        await _saveSchedule(allowOverlap: true);
+      }
     } catch (e) {
       if (mounted) {
         ScaffoldMessenger.of(context).showSnackBar(
@@ -148,6 +155,27 @@ class _ScheduleFormScreenState extends State<ScheduleFormScreen> {
     }
   }
 
+  Future<bool> _confirmOverlap(String message) async {
+    final bool? confirm = await showDialog<bool>(
+      context: context,
+      builder: (context) => AlertDialog(
+        title: const Text('일정 겹침'),
+        content: Text('$message\n그래도 저장하시겠습니까?'),
+        actions: [
+          TextButton(
+            onPressed: () => Navigator.pop(context, false),
+            child: const Text('취소'),
+          ),
+          TextButton(
+            onPressed: () => Navigator.pop(context, true),
+            child: const Text('저장'),
+          ),
+        ],
+      ),
+    );
+    return confirm == true;
+  }
+
   Future<void> _deleteSchedule() async {
     if (widget.schedule == null) return;
 
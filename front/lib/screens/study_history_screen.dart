@@ -6,6 +6,7 @@ import '../widgets/common_widgets.dart';
 import '../models/study_session.dart';
 import '../services/api_service.dart';
 import '../services/auth_service.dart';
+import '../services/logger_service.dart';
 
 /// 학습 기록 화면 (롤 전적 스타일)
 class StudyHistoryScreen extends StatefulWidget {
@@ -18,15 +19,32 @@ class StudyHistoryScreen extends StatefulWidget {
 class _StudyHistoryScreenState extends State<StudyHistoryScreen> {
   List<StudySession> _sessions = [];
   bool _isLoading = true;
+  bool _isLoadingMore = false;
+  String? _nextCursor;
   int _userId = 1;
+  final ScrollController _scrollController = ScrollController();
 
   @override
   void initState() {
     super.initState();
+    _scrollController.addListener(_onScroll);
     _initAuth();
     _loadSessions();
   }
 
+  @override
+  void dispose() {
+    _scrollController.dispose();
+    super.dispose();
+  }
+
+  /// 목록 끝 근처까지 스크롤하면 다음 페이지 로드
+  void _onScroll() {
+    if (_scrollController.position.extentAfter < 300) {
+      _loadMoreSessions();
+    }
+  }
+
   Future<void> _initAuth() async {
     final authService = await AuthService.getInstance();
     setState(() {
@@ -40,12 +58,12 @@ class _StudyHistoryScreenState extends State<StudyHistoryScreen> {
     });
 
     try {
-      final sessions = await ApiService.fetchUserSessions(_userId);
-      // 최신순 정렬
-      sessions.sort((a, b) => b.startedAt.compareTo(a.startedAt));
+      // 서버에서 최신순으로 병합된 첫 페이지만 로드
+      final page = await ApiService.fetchSessionTimeline(_userId);
 
       setState(() {
-        _sessions = sessions;
+        _sessions = page.sessions;
+        _nextCursor = page.nextCursor;
         _isLoading = false;
       });
     } catch (e) {
@@ -60,6 +78,23 @@ class _StudyHistoryScreenState extends State<StudyHistoryScreen> {
     }
   }
 
+  Future<void> _loadMoreSessions() async {
+    if (_isLoadingMore || _nextCursor == null) return;
+    _isLoadingMore = true;
+
+    try {
+      final page = await ApiService.fetchSessionTimeline(_userId, cursor: _nextCursor);
+      setState(() {
+        _sessions = [..._sessions, ...page.sessions];
+        _nextCursor = page.nextCursor;
+      });
+    } catch (e) {
+      Log.d('학습 기록 추가 로드 실패: $e');
+    } finally {
+      _isLoadingMore = false;
+    }
+  }
+
   @override
   Widget build(BuildContext context) {
     return Scaffold(
@@ -82,6 +117,8 @@ class _StudyHistoryScreenState extends State<StudyHistoryScreen> {
               : RefreshIndicator(
                   onRefresh: _loadSessions,
                   child: ListView.builder(
+                    controller: _scrollController,
+                    physics: const AlwaysScrollableScrollPhysics(),
                     padding: const EdgeInsets.all(AppSpacing.lg),
                     itemCount: _sessions.length,
                     itemBuilder: (context, index) {
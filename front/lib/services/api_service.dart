@@ -1,3 +1,4 @@
+import 'dart:async';
 import 'dart:convert';
 import 'package:http/http.dart' as http;
 import '../models/home_data.dart';
@@ -7,6 +8,7 @@ import '../models/card.dart';
 import '../models/user.dart';
 import '../models/goal.dart';
 import '../models/study_session.dart';
+import '../models/pomodoro_timer_state.dart';
 import '../models/weekly_stats.dart' as ws;
 import '../config/api_config.dart';
 import 'logger_service.dart';
@@ -42,24 +44,21 @@ class ApiService {
   // 홈
   // ─────────────────────────────────────────────────────────────
 
-  /// 홈 화면 데이터를 가져옵니다
-  static Future<HomeData> fetchHomeData() async {
+  /// 홈 화면 데이터를 한 번에 가져옵니다 (일정은 [start, end) 기간)
+  /// 실패하면 null (호출한 쪽에서 개별 API로 다시 불러옴)
+  static Future<HomeSummary?> fetchHome({required int userId, DateTime? start, DateTime? end}) async {
     try {
-      final response = await _get('/home');
+      final query = start != null && end != null
+          ? '?from=${start.toIso8601String()}&to=${end.toIso8601String()}'
+          : '';
+      final response = await _get('/users/$userId/home$query');
       if (response.statusCode == 200) {
-        return HomeData.fromJson(json.decode(response.body));
+        return HomeSummary.fromJson(_decode(response));
       }
       throw Exception('Failed to load home data: ${response.statusCode}');
     } catch (e) {
       Log.d('홈 데이터 로드 실패: $e');
-      return HomeData(
-        date: '',
-        timerInfo: TimerInfo(hours: 0, minutes: 0),
-        wordInfo: WordInfo(learned: 0, reviewed: 0, difficult: 0),
-        goalProgress: GoalProgress(completed: 0, total: 0),
-        progressInfo: ProgressInfo(percentage: 0),
-        weeklyStats: WeeklyStats(goalIncrease: 0, pomototoCount: 0),
-      );
+      return null;
     }
   }
 
@@ -68,9 +67,13 @@ class ApiService {
   // ─────────────────────────────────────────────────────────────
 
   /// 특정 사용자의 스케줄을 가져옵니다
+  /// [start]~[end] (end 미포함)를 주면 그 기간과 겹치는 스케줄만 가져옴
   static Future<List<Schedule>> fetchSchedules({required int userId, DateTime? start, DateTime? end}) async {
     try {
-      final response = await _get('/users/$userId/schedules');
+      final query = start != null && end != null
+          ? '?from=${start.toIso8601String()}&to=${end.toIso8601String()}'
+          : '';
+      final response = await _get('/users/$userId/schedules$query');
       if (response.statusCode == 200) {
         final List<dynamic> data = json.decode(response.body);
         return data.map((json) => Schedule.fromJson(json)).toList();
@@ -89,12 +92,14 @@ class ApiService {
     String? description,
     DateTime? startTime,
     DateTime? endTime,
+    bool allowOverlap = false,
   }) async {
     try {
       final body = <String, dynamic>{'title': title};
       if (description != null && description.isNotEmpty) body['description'] = description;
       if (startTime != null) body['startTime'] = startTime.toIso8601String();
       if (endTime != null) body['endTime'] = endTime.toIso8601String();
+      if (allowOverlap) body['allowOverlap'] = true;
 
       Log.d('🔍 Creating schedule with body: $body');
       final response = await _post('/users/$userId/schedules', body);
@@ -102,8 +107,12 @@ class ApiService {
 
       if (response.statusCode == 201) {
         return Schedule.fromJson(json.decode(response.body));
+      } else if (response.statusCode == 409) {
+        throw ScheduleConflictException(_decode(response)['message']);
       }
       throw Exception('Failed to create schedule: ${response.statusCode}');
+    } on ScheduleConflictException {
+      rethrow;
     } catch (e) {
       Log.d('❌ Error in createSchedule: $e');
       throw Exception('Failed to create schedule: $e');
@@ -118,6 +127,7 @@ class ApiService {
     DateTime? startTime,
     DateTime? endTime,
     bool? isCompleted,
+    bool allowOverlap = false,
   }) async {
     try {
       final body = <String, dynamic>{};
@@ -126,12 +136,17 @@ class ApiService {
       if (startTime != null) body['startTime'] = startTime.toIso8601String();
       if (endTime != null) body['endTime'] = endTime.toIso8601String();
       if (isCompleted != null) body['isCompleted'] = isCompleted;
+      if (allowOverlap) body['allowOverlap'] = true;
 
       final response = await _patch('/schedules/$scheduleId', body);
       if (response.statusCode == 200) {
         return Schedule.fromJson(json.decode(response.body));
+      } else if (response.statusCode == 409) {
+        throw ScheduleConflictException(_decode(response)['message']);
       }
       throw Exception('Failed to update schedule: ${response.statusCode}');
+    } on ScheduleConflictException {
+      rethrow;
     } catch (e) {
       throw Exception('Failed to update schedule: $e');
     }
@@ -595,6 +610,17 @@ class ApiService {
     }
   }
 
+  /// 학습 타임라인 한 페이지 조회 (목표 학습 + 단어장 학습, 최신순)
+  /// [cursor]는 이전 페이지의 nextCursor, 첫 페이지는 생략
+  static Future<StudySessionPage> fetchSessionTimeline(int userId, {String? cursor, int size = 20}) async {
+    final query = cursor != null ? '?size=$size&cursor=${Uri.encodeQueryComponent(cursor)}' : '?size=$size';
+    final response = await _get('/users/$userId/study-sessions/timeline$query');
+    if (response.statusCode == 200) {
+      return StudySessionPage.fromJson(_decode(response));
+    }
+    throw Exception('학습 기록을 불러오는데 실패했습니다: ${response.statusCode}');
+  }
+
   /// 진행 중인 세션의 포모도로 카운트 업데이트
   static Future<StudySession> updatePomoCount({required int sessionId, required int pomoCount}) async {
     final response = await _patch('/goal-study-sessions/$sessionId/pomo-count?pomoCount=$pomoCount');
@@ -604,6 +630,58 @@ class ApiService {
     throw Exception('포모도로 카운트 업데이트에 실패했습니다: ${response.statusCode}');
   }
 
+  // ─────────────────────────────────────────────────────────────
+  // 포모도로 타이머 (서버에서 시간 관리)
+  // ─────────────────────────────────────────────────────────────
+
+  /// 타이머 시작/재개
+  static Future<PomodoroTimerState> startPomodoroTimer(int sessionId) =>
+      _patchTimer(sessionId, 'start');
+
+  /// 타이머 일시정지
+  static Future<PomodoroTimerState> pausePomodoroTimer(int sessionId) =>
+      _patchTimer(sessionId, 'pause');
+
+  /// 현재 단계 초기화
+  static Future<PomodoroTimerState> resetPomodoroTimer(int sessionId) =>
+      _patchTimer(sessionId, 'reset');
+
+  static Future<PomodoroTimerState> _patchTimer(int sessionId, String action) async {
+    final response = await _patch('/goal-study-sessions/$sessionId/timer/$action');
+    if (response.statusCode == 200) {
+      return PomodoroTimerState.fromJson(_decode(response));
+    }
+    throw Exception('타이머 요청에 실패했습니다: ${response.statusCode}');
+  }
+
+  /// 타이머 이벤트 구독 (Server-Sent Events)
+  /// 구독 즉시 현재 상태가 한 번 오고, 이후 단계 전환/시작/정지마다 전달됨
+  /// 세션이 종료되면 ENDED 이벤트 후 스트림이 닫힘
+  static Stream<PomodoroTimerState> pomodoroTimerEvents(int sessionId) async* {
+    final client = http.Client();
+    try {
+      final request = http.Request('GET', Uri.parse('$baseUrl/goal-study-sessions/$sessionId/timer/events'))
+        ..headers.addAll({..._headers, 'Accept': 'text/event-stream'});
+      final response = await client.send(request);
+      if (response.statusCode != 200) {
+        throw Exception('타이머 구독에 실패했습니다: ${response.statusCode}');
+      }
+
+      // SSE 형식: "data:..." 줄들이 빈 줄로 구분됨
+      final data = StringBuffer();
+      await for (final line in response.stream.transform(utf8.decoder).transform(const LineSplitter())) {
+        if (line.startsWith('data:')) {
+          data.write(line.substring(5));
+        } else if (line.isEmpty && data.isNotEmpty) {
+          yield PomodoroTimerState.fromJson(json.decode(data.toString()));
+          data.clear();
+        }
+      }
+    } finally {
+      client.close();
+    }
+  }
+
   // ─────────────────────────────────────────────────────────────
   // 단어장 학습 세션
   // ─────────────────────────────────────────────────────────────
@@ -687,7 +765,7 @@ class ApiService {
   static Future<void> recordAppLaunch(int userId) async {
     try {
       final response = await _post('/users/$userId/app-launches');
-      if (response.statusCode == 204 || response.statusCode == 200 || response.statusCode == 201) {
+      if (response.statusCode == 202 || response.statusCode == 204 || response.statusCode == 200 || response.statusCode == 201) {
         Log.d('✅ 앱 실행 시간 기록 성공');
       } else {
         throw Exception('앱 실행 기록 실패: ${response.statusCode}');
@@ -760,3 +838,13 @@ class SessionStartResponse {
   }
 }
 
+/// 다른 일정과 시간이 겹쳐 저장되지 않았을 때 (서버 409 응답)
+/// allowOverlap: true로 다시 요청하면 겹쳐도 저장됨
+class ScheduleConflictException implements Exception {
+  final String message;
+
+  ScheduleConflictException(this.message);
+
+  @override
+  String toString() => message;
+}